@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fixed CollabOS responses used by the benchmarks
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+final class Fixtures {
+	static final String SIGNIN = "signin.json";
+	static final String DEVICE = "device.json";
+	static final String INSIGHTS_ROOM = "insights-room.json";
+	static final String INSIGHTS_DEVICE = "insights-device.json";
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Retrieves the peripherals fixture of an inventory size
+	 *
+	 * @param inventory small, typical or large
+	 * @return name of the fixture
+	 */
+	static String peripherals(String inventory) {
+		switch (inventory) {
+			case "small":
+				return "peripherals-small.json";
+			case "large":
+				return "peripherals-large.json";
+			default:
+				return "peripherals.json";
+		}
+	}
+
+	/**
+	 * Loads a fixture from the classpath
+	 *
+	 * @param name name of the fixture
+	 * @return raw body of the fixture
+	 * @throws IOException if the fixture is missing
+	 */
+	static byte[] load(String name) throws IOException {
+		try (InputStream inputStream = Fixtures.class.getResourceAsStream("/collabos/" + name)) {
+			if (inputStream == null) {
+				throw new IOException("Missing fixture " + name);
+			}
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = inputStream.read(buffer)) > 0) {
+				outputStream.write(buffer, 0, read);
+			}
+			return outputStream.toByteArray();
+		}
+	}
+}
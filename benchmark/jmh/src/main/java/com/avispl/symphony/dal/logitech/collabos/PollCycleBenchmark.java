@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+
+/**
+ * Benchmark of a full getMultipleStatistics run against an in-process HTTP stub serving the CollabOS fixtures.
+ * With changingBodies the stub switches to the other variant of every body at the start of each run, so each cycle parses
+ * and populates again instead of reusing the statistics of unchanged responses.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PollCycleBenchmark {
+	@Param({ "small", "typical", "large" })
+	public String inventory;
+
+	@Param({ "false", "true" })
+	public boolean changingBodies;
+
+	@Param({ "false", "true" })
+	public boolean streamingDecode;
+
+	private final Map<String, byte[]> responses = new HashMap<>();
+	private volatile boolean padded;
+	private HttpServer server;
+	private LogitechCollabOsCommunicator collabOsCommunicator;
+
+	@Setup
+	public void setUp() throws Exception {
+		responses.put("/api/v1/signin", Fixtures.load(Fixtures.SIGNIN));
+		responses.put("/api/v1/device", Fixtures.load(Fixtures.DEVICE));
+		responses.put("/api/v1/insights/room", Fixtures.load(Fixtures.INSIGHTS_ROOM));
+		responses.put("/api/v1/insights/device", Fixtures.load(Fixtures.INSIGHTS_DEVICE));
+		responses.put("/api/v1/peripherals", Fixtures.load(Fixtures.peripherals(inventory)));
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newFixedThreadPool(4));
+		server.createContext("/", this::handle);
+		server.start();
+
+		collabOsCommunicator = new LogitechCollabOsCommunicator();
+		collabOsCommunicator.setHost("127.0.0.1");
+		collabOsCommunicator.setPort(server.getAddress().getPort());
+		collabOsCommunicator.setLogin("admin");
+		collabOsCommunicator.setPassword("admin");
+		collabOsCommunicator.setDeviceInfoPollingInterval(0);
+		collabOsCommunicator.setPeripheralsPollingInterval(0);
+		collabOsCommunicator.setStreamingDecode(streamingDecode);
+		collabOsCommunicator.init();
+	}
+
+	@TearDown
+	public void tearDown() {
+		collabOsCommunicator.destroy();
+		server.stop(0);
+		((java.util.concurrent.ExecutorService) server.getExecutor()).shutdownNow();
+	}
+
+	@Benchmark
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		if (changingBodies) {
+			padded = !padded;
+		}
+		return collabOsCommunicator.getMultipleStatistics();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		byte[] body = responses.getOrDefault(exchange.getRequestURI().getPath(), new byte[0]);
+		boolean padded = this.padded;
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length + (padded ? 1 : 0));
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+			if (padded) {
+				outputStream.write(' ');
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
+
+/**
+ * Benchmarks of the decode and populate steps of a poll cycle, without any HTTP, for both decoders
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PopulateBenchmark {
+	@Param({ "small", "typical", "large" })
+	public String inventory;
+
+	private final LogitechCollabOsCommunicator collabOsCommunicator = new LogitechCollabOsCommunicator();
+	private byte[] deviceBody;
+	private byte[] deviceInsightsBody;
+	private byte[] peripheralsBody;
+
+	@Setup
+	public void setUp() throws Exception {
+		deviceBody = Fixtures.load(Fixtures.DEVICE);
+		deviceInsightsBody = Fixtures.load(Fixtures.INSIGHTS_DEVICE);
+		peripheralsBody = Fixtures.load(Fixtures.peripherals(inventory));
+	}
+
+	@Benchmark
+	public Map<String, String> decodeDeviceInfoTree() throws Exception {
+		return decode(LogitechCommand.DEVICE_INFO, deviceBody, false);
+	}
+
+	@Benchmark
+	public Map<String, String> decodeDeviceInfoStreaming() throws Exception {
+		return decode(LogitechCommand.DEVICE_INFO, deviceBody, true);
+	}
+
+	@Benchmark
+	public Map<String, String> decodeDeviceInsightsTree() throws Exception {
+		return decode(LogitechCommand.INSIGHTS_DEVICE, deviceInsightsBody, false);
+	}
+
+	@Benchmark
+	public Map<String, String> decodeDeviceInsightsStreaming() throws Exception {
+		return decode(LogitechCommand.INSIGHTS_DEVICE, deviceInsightsBody, true);
+	}
+
+	@Benchmark
+	public Map<String, String> decodePeripheralsTree() throws Exception {
+		return decode(LogitechCommand.PERIPHERALS_INFO, peripheralsBody, false);
+	}
+
+	@Benchmark
+	public Map<String, String> decodePeripheralsStreaming() throws Exception {
+		return decode(LogitechCommand.PERIPHERALS_INFO, peripheralsBody, true);
+	}
+
+	private Map<String, String> decode(LogitechCommand command, byte[] body, boolean streaming) throws Exception {
+		Map<String, String> data = new HashMap<>();
+		collabOsCommunicator.decode(command, body, data, streaming);
+		return data;
+	}
+}
@@ -0,0 +1,375 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
+import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.logitech.collabos.common.DeviceEndpoint;
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechConstant;
+
+/**
+ * Logitech CollabOs Aggregator Communicator Adapter
+ *
+ * Polls a fleet of CollabOS devices from a single adapter instance and reports each of them as an aggregated device.
+ * Every device is monitored by its own {@link LogitechCollabOsCommunicator}, while the HTTP client, the sign-in executor
+ * and a bounded polling scheduler are shared by all of them, and the polls are staggered across the polling interval.
+ *
+ * Aggregator statistics:
+ * Devices
+ * OnlineDevices
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class LogitechCollabOsAggregatorCommunicator extends RestCommunicator implements Aggregator, Monitorable {
+
+	/**
+	 * Devices to poll, entries separated by ';' as host[:port][,login,password]
+	 */
+	private String deviceList;
+
+	/**
+	 * Delay in seconds between two polls of the same device
+	 */
+	private long devicePollingInterval = LogitechConstant.DEFAULT_DEVICE_POLLING_INTERVAL;
+
+	/**
+	 * Number of threads polling devices at the same time
+	 */
+	private int maxConcurrentPolls = LogitechConstant.DEFAULT_MAX_CONCURRENT_POLLS;
+
+	/**
+	 * Communicators of the configured devices, keyed by device id
+	 */
+	private final Map<String, LogitechCollabOsCommunicator> devices = new ConcurrentHashMap<>();
+
+	/**
+	 * Last aggregated device built for each device id, kept when a poll fails
+	 */
+	private final Map<String, AggregatedDevice> aggregatedDevices = new ConcurrentHashMap<>();
+
+	/**
+	 * Scheduled polls of the devices
+	 */
+	private final List<ScheduledFuture<?>> polls = new ArrayList<>();
+
+	/**
+	 * Scheduler running the device polls
+	 */
+	private ScheduledThreadPoolExecutor pollScheduler;
+
+	/**
+	 * Executor running the sign-ins of every device
+	 */
+	private ExecutorService tokenExecutor;
+
+	/**
+	 * Retrieves {@link #deviceList}
+	 *
+	 * @return value of {@link #deviceList}
+	 */
+	public String getDeviceList() {
+		return deviceList;
+	}
+
+	/**
+	 * Sets {@link #deviceList} value
+	 *
+	 * @param deviceList new value of {@link #deviceList}
+	 */
+	public void setDeviceList(String deviceList) {
+		this.deviceList = deviceList;
+	}
+
+	/**
+	 * Retrieves {@link #devicePollingInterval}
+	 *
+	 * @return value of {@link #devicePollingInterval}
+	 */
+	public long getDevicePollingInterval() {
+		return devicePollingInterval;
+	}
+
+	/**
+	 * Sets {@link #devicePollingInterval} value
+	 *
+	 * @param devicePollingInterval new value of {@link #devicePollingInterval}
+	 */
+	public void setDevicePollingInterval(long devicePollingInterval) {
+		this.devicePollingInterval = devicePollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #maxConcurrentPolls}
+	 *
+	 * @return value of {@link #maxConcurrentPolls}
+	 */
+	public int getMaxConcurrentPolls() {
+		return maxConcurrentPolls;
+	}
+
+	/**
+	 * Sets {@link #maxConcurrentPolls} value
+	 *
+	 * @param maxConcurrentPolls new value of {@link #maxConcurrentPolls}
+	 */
+	public void setMaxConcurrentPolls(int maxConcurrentPolls) {
+		this.maxConcurrentPolls = maxConcurrentPolls;
+	}
+
+	/**
+	 * Constructor instance
+	 */
+	public LogitechCollabOsAggregatorCommunicator() {
+		this.setTrustAllCertificates(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		return new ArrayList<>(aggregatedDevices.values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		List<AggregatedDevice> result = new ArrayList<>(deviceIds.size());
+		for (String deviceId : deviceIds) {
+			AggregatedDevice aggregatedDevice = aggregatedDevices.get(deviceId);
+			if (aggregatedDevice != null) {
+				result.add(aggregatedDevice);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		int online = 0;
+		for (AggregatedDevice aggregatedDevice : aggregatedDevices.values()) {
+			if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline())) {
+				online++;
+			}
+		}
+		Map<String, String> stats = new HashMap<>();
+		stats.put(LogitechConstant.DEVICES, String.valueOf(devices.size()));
+		stats.put(LogitechConstant.ONLINE_DEVICES, String.valueOf(online));
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+		// Each device signs in through its own communicator
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		List<DeviceEndpoint> endpoints = DeviceEndpoint.parse(deviceList, getLogin(), getPassword());
+		int connectionsPerDevice = LogitechCommand.values().length;
+		if (getMaxConnectionsPerRoute() < connectionsPerDevice) {
+			setMaxConnectionsPerRoute(connectionsPerDevice);
+		}
+		if (getMaxConnectionsTotal() < endpoints.size() * connectionsPerDevice) {
+			setMaxConnectionsTotal(endpoints.size() * connectionsPerDevice);
+		}
+		super.internalInit();
+		tokenExecutor = Executors.newFixedThreadPool(LogitechConstant.AGGREGATOR_TOKEN_THREADS, runnable -> {
+			Thread thread = new Thread(runnable, "LogitechCollabOs aggregator token");
+			thread.setDaemon(true);
+			return thread;
+		});
+		pollScheduler = new ScheduledThreadPoolExecutor(Math.max(1, maxConcurrentPolls), runnable -> {
+			Thread thread = new Thread(runnable, "LogitechCollabOs aggregator poll");
+			thread.setDaemon(true);
+			return thread;
+		});
+		pollScheduler.setRemoveOnCancelPolicy(true);
+
+		long interval = Math.max(1, devicePollingInterval) * 1000;
+		long slot = endpoints.isEmpty() ? interval : Math.max(1, interval / endpoints.size());
+		for (int i = 0; i < endpoints.size(); i++) {
+			DeviceEndpoint endpoint = endpoints.get(i);
+			LogitechCollabOsCommunicator device;
+			try {
+				device = createDevice(endpoint);
+			} catch (Exception e) {
+				logger.error(String.format("Error while initializing device %s, the device is not polled", endpoint.getDeviceId()), e);
+				continue;
+			}
+			devices.put(endpoint.getDeviceId(), device);
+			long initialDelay = i * slot + ThreadLocalRandom.current().nextLong(slot);
+			polls.add(pollScheduler.scheduleWithFixedDelay(() -> pollDevice(endpoint, device), initialDelay, interval, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		polls.forEach(poll -> poll.cancel(true));
+		polls.clear();
+		if (pollScheduler != null) {
+			pollScheduler.shutdownNow();
+			pollScheduler = null;
+		}
+		devices.values().forEach(LogitechCollabOsCommunicator::destroy);
+		devices.clear();
+		aggregatedDevices.clear();
+		if (tokenExecutor != null) {
+			tokenExecutor.shutdownNow();
+			tokenExecutor = null;
+		}
+		super.internalDestroy();
+	}
+
+	/**
+	 * Creates and initializes the communicator of a device. The device builds its own template, with its timeout and
+	 * error handling, on the pooled client of the aggregator.
+	 *
+	 * @param endpoint host and credentials of the device
+	 * @return the initialized communicator
+	 * @throws Exception if the communicator cannot be initialized, it is destroyed then
+	 */
+	LogitechCollabOsCommunicator createDevice(DeviceEndpoint endpoint) throws Exception {
+		LogitechCollabOsCommunicator device = new LogitechCollabOsCommunicator();
+		device.setHost(endpoint.getHost());
+		if (endpoint.getPort() > 0) {
+			device.setPort(endpoint.getPort());
+		}
+		device.setProtocol(getProtocol());
+		device.setTimeout(getTimeout());
+		device.setTrustAllCertificates(getTrustAllCertificates());
+		device.setLogin(endpoint.getLogin());
+		device.setPassword(endpoint.getPassword());
+		device.setSharedTokenExecutor(tokenExecutor);
+		device.setSharedHttpClient(() -> obtainHttpClient(false));
+		try {
+			device.init();
+		} catch (Exception e) {
+			device.destroy();
+			throw e;
+		}
+		return device;
+	}
+
+	/**
+	 * Polls a device and stores the result as its aggregated device, marking it offline when the poll fails.
+	 * Any throwable is caught, as the scheduler would otherwise stop polling the device silently.
+	 *
+	 * @param endpoint host of the device
+	 * @param device communicator of the device
+	 */
+	private void pollDevice(DeviceEndpoint endpoint, LogitechCollabOsCommunicator device) {
+		String deviceId = endpoint.getDeviceId();
+		try {
+			ExtendedStatistics extendedStatistics = (ExtendedStatistics) device.getMultipleStatistics().get(0);
+			aggregatedDevices.put(deviceId, buildAggregatedDevice(endpoint, extendedStatistics.getStatistics()));
+		} catch (Throwable e) {
+			logger.error(String.format("Error while polling device %s", deviceId), e);
+			AggregatedDevice previous = aggregatedDevices.get(deviceId);
+			AggregatedDevice offline = previous != null ? copyAggregatedDevice(previous) : buildAggregatedDevice(endpoint, new HashMap<>());
+			offline.setDeviceOnline(false);
+			offline.setTimestamp(System.currentTimeMillis());
+			aggregatedDevices.put(deviceId, offline);
+		}
+	}
+
+	/**
+	 * Builds the aggregated device of a successful poll
+	 *
+	 * @param endpoint host of the device
+	 * @param stats statistics of the device
+	 * @return the aggregated device
+	 */
+	private AggregatedDevice buildAggregatedDevice(DeviceEndpoint endpoint, Map<String, String> stats) {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(endpoint.getDeviceId());
+		aggregatedDevice.setDeviceMake(LogitechConstant.DEVICE_MAKE);
+		String name = stats.get(LogitechConstant.SYSTEM_NAME);
+		aggregatedDevice.setDeviceName(isKnown(name) ? name : endpoint.getHost());
+		aggregatedDevice.setDeviceModel(stats.get(LogitechConstant.MODEL_NAME));
+		aggregatedDevice.setSerialNumber(stats.get(LogitechConstant.SERIAL_NUMBER));
+		List<String> macAddresses = new ArrayList<>(2);
+		for (String key : new String[] { LogitechConstant.ETHERNET_MAC, LogitechConstant.WIFI_MAC }) {
+			String mac = stats.get(key);
+			if (isKnown(mac)) {
+				macAddresses.add(mac);
+			}
+		}
+		aggregatedDevice.setMacAddresses(macAddresses);
+		aggregatedDevice.setDeviceOnline(true);
+		aggregatedDevice.setTimestamp(System.currentTimeMillis());
+		aggregatedDevice.setProperties(stats);
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Copies an aggregated device so that a published instance is never modified
+	 *
+	 * @param source aggregated device to copy
+	 * @return the copy
+	 */
+	private AggregatedDevice copyAggregatedDevice(AggregatedDevice source) {
+		AggregatedDevice copy = new AggregatedDevice();
+		copy.setDeviceId(source.getDeviceId());
+		copy.setDeviceMake(source.getDeviceMake());
+		copy.setDeviceName(source.getDeviceName());
+		copy.setDeviceModel(source.getDeviceModel());
+		copy.setSerialNumber(source.getSerialNumber());
+		copy.setMacAddresses(source.getMacAddresses());
+		copy.setDeviceOnline(source.getDeviceOnline());
+		copy.setTimestamp(source.getTimestamp());
+		copy.setProperties(source.getProperties());
+		return copy;
+	}
+
+	/**
+	 * Checks whether a statistic holds an actual value
+	 *
+	 * @param value the statistic value
+	 * @return true if the value is neither empty nor the default placeholder
+	 */
+	private boolean isKnown(String value) {
+		return value != null && !value.isEmpty() && !LogitechConstant.NONE.equals(value);
+	}
+}
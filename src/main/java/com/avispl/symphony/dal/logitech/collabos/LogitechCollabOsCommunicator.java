@@ -3,34 +3,76 @@
  */
 package com.avispl.symphony.dal.logitech.collabos;
 
-import java.lang.reflect.Method;
+import java.io.IOException;
 import java.net.ConnectException;
-import java.net.Socket;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.http.client.HttpClient;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.security.auth.login.FailedLoginException;
 
+import com.avispl.symphony.api.common.error.NotModifiedException;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.logitech.collabos.common.CircuitBreaker;
+import com.avispl.symphony.dal.logitech.collabos.common.CommandMetrics;
+import com.avispl.symphony.dal.logitech.collabos.common.CommandOutcome;
+import com.avispl.symphony.dal.logitech.collabos.common.CommandState;
+import com.avispl.symphony.dal.logitech.collabos.common.ConnectionMetrics;
+import com.avispl.symphony.dal.logitech.collabos.common.DeltaStatistics;
 import com.avispl.symphony.dal.logitech.collabos.common.DeviceInfo;
+import com.avispl.symphony.dal.logitech.collabos.common.GroupFilter;
 import com.avispl.symphony.dal.logitech.collabos.common.InsightInfo;
 import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
 import com.avispl.symphony.dal.logitech.collabos.common.LogitechConstant;
+import com.avispl.symphony.dal.logitech.collabos.common.OccupancySeries;
+import com.avispl.symphony.dal.logitech.collabos.common.PeripheralIndex;
 import com.avispl.symphony.dal.logitech.collabos.common.PeripheralType;
 import com.avispl.symphony.dal.logitech.collabos.common.PingMode;
+import com.avispl.symphony.dal.logitech.collabos.common.ProbeSamples;
+import com.avispl.symphony.dal.logitech.collabos.common.RollingWindow;
+import com.avispl.symphony.dal.logitech.collabos.common.RoomActivity;
+import com.avispl.symphony.dal.logitech.collabos.common.SnapshotStore;
+import com.avispl.symphony.dal.logitech.collabos.common.SnapshotStore.Snapshot;
+import com.avispl.symphony.dal.logitech.collabos.common.TcpPinger;
+import com.avispl.symphony.dal.logitech.collabos.common.TransitionLog;
+import com.avispl.symphony.dal.util.IcmpUtils;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -58,330 +100,2774 @@ import com.avispl.symphony.dal.util.StringUtils;
  * @since 1.0.0
  */
 public class LogitechCollabOsCommunicator extends RestCommunicator implements Monitorable {
+	/**
+	 * Device info field names mapped to their property names, used by the streaming decoder
+	 */
+	private static final Map<String, String> DEVICE_INFO_FIELDS = new HashMap<>();
+
+	/**
+	 * Room insight field names mapped to their property names, used by the streaming decoder
+	 */
+	private static final Map<String, String> ROOM_INSIGHT_FIELDS = new HashMap<>();
+
+	/**
+	 * Device insight field names mapped to their property names, used by the streaming decoder
+	 */
+	private static final Map<String, String> DEVICE_INSIGHT_FIELDS = new HashMap<>();
+
+	/**
+	 * Peripheral array field names mapped to their type, used by the streaming decoder
+	 */
+	private static final Map<String, PeripheralType> PERIPHERAL_FIELDS = new HashMap<>();
+
+	/**
+	 * CommandHealth properties of every command, indexed by command ordinal: the breaker state and its consecutive failures
+	 */
+	private static final String[][] HEALTH_KEYS = new String[LogitechCommand.values().length][];
+
+	/**
+	 * AdapterMetrics properties of every command, indexed by command ordinal: response bytes, last outcome,
+	 * then the count of every {@link CommandOutcome}
+	 */
+	private static final String[][] COMMAND_METRIC_KEYS = new String[LogitechCommand.values().length][];
+
+	/**
+	 * AdapterMetrics latency properties of every command, indexed by command ordinal
+	 */
+	private static final String[][] LATENCY_KEYS = new String[LogitechCommand.values().length][];
+
+	/**
+	 * AdapterMetrics parse time properties of every command, indexed by command ordinal
+	 */
+	private static final String[][] PARSE_TIME_KEYS = new String[LogitechCommand.values().length][];
+
+	/**
+	 * AdapterMetrics cycle time properties
+	 */
+	private static final String[] CYCLE_TIME_KEYS = rollingWindowKeys(LogitechConstant.ADAPTER_METRICS + "CycleTime");
+
+	/**
+	 * Names of the connection counters, indexed like a {@link ConnectionMetrics} snapshot
+	 */
+	private static final String[] CONNECTION_COUNTERS = { "SocketsOpened", "TlsHandshakes", "ReusedConnections" };
+
+	/**
+	 * AdapterMetrics connection properties, indexed like a {@link ConnectionMetrics} snapshot: the total, then the last cycle
+	 */
+	private static final String[][] CONNECTION_COUNTER_KEYS = new String[ConnectionMetrics.COUNTERS][];
+
+	/**
+	 * PingStatistics properties of the ICMP probes
+	 */
+	private static final String[] ICMP_PROBE_KEYS = probeKeys("Icmp");
+
+	/**
+	 * PingStatistics properties of the TCP probes
+	 */
+	private static final String[] TCP_PROBE_KEYS = probeKeys("Tcp");
+
+	/**
+	 * Error handler of the client returning a 401 instead of throwing it
+	 */
+	private static final ResponseErrorHandler UNAUTHORIZED_RESPONSE_HANDLER = new DefaultResponseErrorHandler() {
+		@Override
+		protected boolean hasError(HttpStatus statusCode) {
+			return statusCode != HttpStatus.UNAUTHORIZED && super.hasError(statusCode);
+		}
+	};
+
+	/**
+	 * Lengths in milliseconds of the occupancy windows
+	 */
+	private static final long[] OCCUPANCY_WINDOWS = { 15 * 60000L, 3600000L, 24 * 3600000L };
+
+	/**
+	 * RoomInsights occupancy properties of every window, indexed by window then like an {@link OccupancySeries} summary
+	 */
+	private static final String[][] OCCUPANCY_KEYS = { occupancyKeys("15m"), occupancyKeys("1h"), occupancyKeys("24h") };
+
+	/**
+	 * Device insights whose changes are kept in the transition log
+	 */
+	private static final InsightInfo[] TRACKED_INSIGHTS = { InsightInfo.DEVICE_STATUS, InsightInfo.MIC_STATE, InsightInfo.SPEAKER_STATE, InsightInfo.SPEAKER_VOLUME };
+
+	/**
+	 * Index of the mic state in {@link #TRACKED_INSIGHTS}
+	 */
+	private static final int TRACKED_MIC_STATE = Arrays.asList(TRACKED_INSIGHTS).indexOf(InsightInfo.MIC_STATE);
+
+	/**
+	 * DeviceInsights properties counting the changes of every tracked insight over the last day, indexed like {@link #TRACKED_INSIGHTS}
+	 */
+	private static final String[] TRANSITION_COUNT_KEYS = new String[TRACKED_INSIGHTS.length];
+
+	/**
+	 * Commands whose polling interval follows the activity of the room in adaptive polling mode
+	 */
+	private static final LogitechCommand[] ADAPTIVE_COMMANDS = { LogitechCommand.INSIGHTS_DEVICE, LogitechCommand.PERIPHERALS_INFO };
+
+	/**
+	 * AdaptivePolling properties of the effective polling interval of every adaptive command, indexed like {@link #ADAPTIVE_COMMANDS}
+	 */
+	private static final String[] ADAPTIVE_INTERVAL_KEYS = new String[ADAPTIVE_COMMANDS.length];
+
+	static {
+		for (DeviceInfo item : DeviceInfo.values()) {
+			DEVICE_INFO_FIELDS.put(item.getName(), item.getPropertyName());
+		}
+		for (InsightInfo item : InsightInfo.values()) {
+			if ("RoomInsights".equalsIgnoreCase(item.getGroup())) {
+				ROOM_INSIGHT_FIELDS.put(item.getName(), item.getPropertyName());
+			} else {
+				DEVICE_INSIGHT_FIELDS.put(item.getName(), item.getPropertyName());
+			}
+		}
+		for (PeripheralType type : PeripheralType.values()) {
+			PERIPHERAL_FIELDS.put(type.getValue(), type);
+		}
+		CommandOutcome[] outcomes = CommandOutcome.values();
+		for (LogitechCommand command : LogitechCommand.values()) {
+			String health = LogitechConstant.COMMAND_HEALTH + command.getName();
+			HEALTH_KEYS[command.ordinal()] = new String[] { health, health + LogitechConstant.CONSECUTIVE_FAILURES };
+			String prefix = LogitechConstant.ADAPTER_METRICS + command.getName();
+			String[] keys = new String[2 + outcomes.length];
+			keys[0] = prefix + "ResponseBytes";
+			keys[1] = prefix + "LastOutcome";
+			for (CommandOutcome outcome : outcomes) {
+				keys[2 + outcome.ordinal()] = prefix + outcome.getName() + "Count";
+			}
+			COMMAND_METRIC_KEYS[command.ordinal()] = keys;
+			LATENCY_KEYS[command.ordinal()] = rollingWindowKeys(prefix + "Latency");
+			PARSE_TIME_KEYS[command.ordinal()] = rollingWindowKeys(prefix + "ParseTime");
+		}
+		for (int i = 0; i < TRACKED_INSIGHTS.length; i++) {
+			TRANSITION_COUNT_KEYS[i] = TRACKED_INSIGHTS[i].getKey() + "Changes24h";
+		}
+		for (int i = 0; i < ADAPTIVE_COMMANDS.length; i++) {
+			ADAPTIVE_INTERVAL_KEYS[i] = LogitechConstant.ADAPTIVE_POLLING + ADAPTIVE_COMMANDS[i].getName() + "Interval(s)";
+		}
+		for (int i = 0; i < ConnectionMetrics.COUNTERS; i++) {
+			CONNECTION_COUNTER_KEYS[i] = new String[] { LogitechConstant.ADAPTER_METRICS + CONNECTION_COUNTERS[i],
+					LogitechConstant.ADAPTER_METRICS + "LastCycle" + CONNECTION_COUNTERS[i] };
+		}
+	}
+
 	/**
 	 * Private variable representing the local extended statistics.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private ExtendedStatistics localExtendedStatistics;
+
+	/**
+	 * A mapper for reading and writing JSON using Jackson library.
+	 * ObjectMapper provides functionality for converting between Java objects and JSON.
+	 * It can be used to serialize objects to JSON format, and deserialize JSON data to objects.
+	 */
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * store token api to get monitoring and controlling data
+	 */
+	private volatile String token;
+
+	/**
+	 * save time get token
+	 */
+	private volatile long tokenExpire;
+
+	/**
+	 * lifetime of the token in ms, taken from expires_in of the signin response
+	 */
+	private volatile long expiresIn = LogitechConstant.DEFAULT_TOKEN_LIFETIME;
+
+	/**
+	 * in-flight sign-in shared by every caller needing a new token
+	 */
+	private CompletableFuture<String> tokenRefresh;
+
+	/**
+	 * lock guarding {@link #tokenRefresh}
+	 */
+	private final Object tokenLock = new Object();
+
+	/**
+	 * Single thread running sign-ins off the poll path
+	 */
+	private ExecutorService tokenExecutor;
+
+	/**
+	 * Executor running sign-ins provided by an aggregator and shared by its devices, null to create {@link #tokenExecutor} on init
+	 */
+	private ExecutorService sharedTokenExecutor;
+
+	/**
+	 * Supplies the pooled client provided by an aggregator and shared by its devices, null to send the requests through the client of the base class
+	 */
+	private Callable<HttpClient> sharedHttpClient;
+
+	/**
+	 * Template last prepared by {@link #obtainRestTemplate()}, with the 401 pass-through handler and the client metered by
+	 * {@link #connectionMetrics}
+	 */
+	private volatile RestTemplate meteredRestTemplate;
+
+	/**
+	 * Lock guarding the preparation of {@link #meteredRestTemplate}
+	 */
+	private final Object restTemplateLock = new Object();
+
+	/**
+	 * failed monitor
+	 */
+	private final AtomicInteger failedMonitor = new AtomicInteger();
+
+	/**
+	 * attempted commands in the current cycle
+	 */
+	private final AtomicInteger attemptedMonitor = new AtomicInteger();
+
+	/**
+	 * last good result and refresh time of every command
+	 */
+	private final Map<LogitechCommand, CommandState> commandStates = new EnumMap<>(LogitechCommand.class);
+
+	/**
+	 * Whether all {@link LogitechCommand} requests of a poll cycle are sent in parallel
+	 */
+	private boolean concurrentFetch = false;
+
+	/**
+	 * Whether responses are decoded from the JSON token stream instead of a full {@link JsonNode} tree
+	 */
+	private boolean streamingDecode = false;
+
+	/**
+	 * Whether request latency, response size, parse time, outcomes and cycle time are recorded and published as AdapterMetrics
+	 */
+	private boolean adapterMetrics = false;
+
+	/**
+	 * Number of samples the AdapterMetrics percentiles are computed over
+	 */
+	private int adapterMetricsWindow = LogitechConstant.DEFAULT_METRICS_WINDOW;
+
+	/**
+	 * Duration of the last poll cycles in nanoseconds
+	 */
+	private final RollingWindow cycleTime = new RollingWindow(LogitechConstant.DEFAULT_METRICS_WINDOW);
+
+	/**
+	 * Number of successful sign-ins
+	 */
+	private final AtomicLong tokenRefreshCount = new AtomicLong();
+
+	/**
+	 * Whether a command failing repeatedly is skipped until its circuit breaker backoff has elapsed, its health being published as CommandHealth
+	 */
+	private boolean circuitBreaker = false;
+
+	/**
+	 * Backoff of the first opening of a command circuit breaker in seconds
+	 */
+	private long circuitBreakerBackoff = 30;
+
+	/**
+	 * Upper bound of the backoff of a command circuit breaker in seconds
+	 */
+	private long circuitBreakerMaxBackoff = 900;
+
+	/**
+	 * Longest time in seconds a keep-alive connection of the client is kept open between requests
+	 */
+	private long connectionMaxIdleTime = LogitechConstant.DEFAULT_CONNECTION_MAX_IDLE_TIME;
+
+	/**
+	 * Idle time in milliseconds after which a keep-alive connection is checked for staleness before being reused
+	 */
+	private int connectionValidateAfterInactivity = LogitechConstant.DEFAULT_CONNECTION_VALIDATE_AFTER_INACTIVITY;
+
+	/**
+	 * Sockets, handshakes and reused connections of the client sending the requests of this device
+	 */
+	private final ConnectionMetrics connectionMetrics = new ConnectionMetrics();
+
+	/**
+	 * Connection counters at the start of the running cycle, indexed as in {@link ConnectionMetrics#snapshot(long[])}
+	 */
+	private final long[] cycleStartConnections = new long[ConnectionMetrics.COUNTERS];
+
+	/**
+	 * Connection counters of the last cycle, indexed as in {@link ConnectionMetrics#snapshot(long[])}
+	 */
+	private final long[] lastCycleConnections = new long[ConnectionMetrics.COUNTERS];
+
+	/**
+	 * Bounded executor used for the concurrent fetch, one thread per {@link LogitechCommand}
+	 */
+	private ExecutorService fetchExecutor;
+
+	/**
+	 * ping mode
+	 */
+	private PingMode pingMode = PingMode.ICMP;
+
+	/**
+	 * Whether the attempts of a TCP ping open their connections at once instead of one after another
+	 */
+	private boolean concurrentPing = false;
+
+	/**
+	 * Age in seconds of the command round trips the HTTP ping mode reports instead of sending a request
+	 */
+	private long httpPingMaxAge = LogitechConstant.DEFAULT_HTTP_PING_MAX_AGE;
+
+	/**
+	 * Non-blocking TCP ping caching the resolved address of the device
+	 */
+	private final TcpPinger tcpPinger = new TcpPinger();
+
+	/**
+	 * Last ICMP probes of the DUAL ping mode
+	 */
+	private final ProbeSamples icmpSamples = new ProbeSamples(LogitechConstant.PING_SAMPLES);
+
+	/**
+	 * Last TCP probes of the DUAL ping mode
+	 */
+	private final ProbeSamples tcpSamples = new ProbeSamples(LogitechConstant.PING_SAMPLES);
+
+	/**
+	 * Executor running the ICMP probe while the TCP probe of the same attempt runs, created on init in DUAL ping mode
+	 */
+	private ExecutorService probeExecutor;
+
+	/**
+	 * Whether the statistics are kept across cycles, updating only the properties that changed and publishing their change times
+	 */
+	private boolean deltaStatistics = false;
+
+	/**
+	 * Statistics kept across cycles in delta mode
+	 */
+	private final DeltaStatistics delta = new DeltaStatistics(LogitechConstant.ADAPTER_METRICS, LogitechConstant.PING_STATISTICS, LogitechConstant.COMMAND_HEALTH);
+
+	/**
+	 * Whether occupancy samples are kept to report the occupancy of the room over the last 15 minutes, hour and day
+	 */
+	private boolean occupancyStatistics = false;
+
+	/**
+	 * Occupancy samples of the room, taken from every successful room insights request
+	 */
+	private final OccupancySeries occupancySeries = new OccupancySeries(LogitechConstant.OCCUPANCY_SAMPLES, LogitechConstant.OCCUPANCY_SAMPLE_SPACING,
+			OCCUPANCY_WINDOWS);
+
+	/**
+	 * Summary of an occupancy window, reused across cycles
+	 */
+	private final double[] occupancySummary = new double[4];
+
+	/**
+	 * Whether the changes of the device state, mic state, speaker state and speaker volume are logged
+	 * to report how often they changed over the last day and the most recent changes
+	 */
+	private boolean transitionHistory = false;
+
+	/**
+	 * Changes of the tracked device insights, the property of a change being its index in {@link #TRACKED_INSIGHTS}
+	 */
+	private final TransitionLog transitionLog = new TransitionLog(LogitechConstant.TRANSITION_LOG_SIZE, LogitechConstant.TRANSITION_STATES);
+
+	/**
+	 * Most recent changes of the transition log, reused across cycles
+	 */
+	private final long[] recentTransitions = new long[LogitechConstant.RECENT_TRANSITIONS];
+
+	/**
+	 * Whether the device insights and peripherals are refreshed more often while the room is in use and less often while it is vacant
+	 */
+	private boolean adaptivePolling = false;
+
+	/**
+	 * Longest polling interval in seconds of the adaptive commands while the room is in use
+	 */
+	private long activePollingInterval = LogitechConstant.DEFAULT_ACTIVE_POLLING_INTERVAL;
+
+	/**
+	 * Shortest polling interval in seconds of the adaptive commands while the room is vacant
+	 */
+	private long idlePollingInterval = LogitechConstant.DEFAULT_IDLE_POLLING_INTERVAL;
+
+	/**
+	 * Activity of the room derived from the latest insights in adaptive polling mode
+	 */
+	private volatile RoomActivity roomActivity = RoomActivity.UNKNOWN;
+
+	/**
+	 * Comma-separated commands, insight groups and peripheral types to retrieve, empty to retrieve all of them
+	 */
+	private String includedGroups;
+
+	/**
+	 * Comma-separated commands, insight groups and peripheral types not to retrieve
+	 */
+	private String excludedGroups;
+
+	/**
+	 * Commands and peripheral types retrieved, built from {@link #includedGroups} and {@link #excludedGroups}
+	 */
+	private volatile GroupFilter groupFilter = new GroupFilter(null, null);
+
+	/**
+	 * Whether every peripheral keeps the slot of its group across cycles, keyed by its id, serial number or MAC address,
+	 * instead of being numbered by its position in the response
+	 */
+	private boolean stablePeripheralSlots = false;
+
+	/**
+	 * Slots of the peripherals in stable slot mode
+	 */
+	private final PeripheralIndex peripheralIndex = new PeripheralIndex();
+
+	/**
+	 * Directory the last known state of the device is saved to, so that a restart serves it until the first refresh completes.
+	 * Empty to disable snapshots.
+	 */
+	private String snapshotDirectory;
+
+	/**
+	 * Minimum time in seconds between two snapshot writes
+	 */
+	private long snapshotInterval = LogitechConstant.DEFAULT_SNAPSHOT_INTERVAL;
+
+	/**
+	 * Snapshot file of the device, created on init when {@link #snapshotDirectory} is set
+	 */
+	private SnapshotStore snapshotStore;
+
+	/**
+	 * Whether a command result or the token changed since the last snapshot write
+	 */
+	private volatile boolean snapshotDirty;
+
+	/**
+	 * Time of the last snapshot write
+	 */
+	private long lastSnapshotTime;
+
+	/**
+	 * Statistics loaded from the snapshot, served until the first refresh after init completes
+	 */
+	private volatile ExtendedStatistics warmStatistics;
+
+	/**
+	 * Whether {@link #getMultipleStatistics()} returns the last statistics right away and refreshes them in the background
+	 */
+	private boolean staleWhileRevalidate = false;
+
+	/**
+	 * Minimum time in seconds between two background refreshes in stale-while-revalidate mode
+	 */
+	private long minRefreshInterval = LogitechConstant.DEFAULT_MIN_REFRESH_INTERVAL;
+
+	/**
+	 * Age in seconds of the last statistics after which {@link #getMultipleStatistics()} waits for a refresh again
+	 * in stale-while-revalidate mode
+	 */
+	private long maxStaleness = LogitechConstant.DEFAULT_MAX_STALENESS;
+
+	/**
+	 * Time the last statistics were polled, 0 if none were
+	 */
+	private volatile long statisticsTime;
+
+	/**
+	 * Time the last background refresh started
+	 */
+	private long refreshStartTime;
+
+	/**
+	 * In-flight or last refresh running on {@link #refreshExecutor}, shared by every caller
+	 */
+	private Future<ExtendedStatistics> refresh;
+
+	/**
+	 * Lock guarding {@link #refresh}
+	 */
+	private final Object refreshLock = new Object();
+
+	/**
+	 * Executor running the refreshes in the background, created on init when a snapshot is loaded or in stale-while-revalidate mode
+	 */
+	private ExecutorService refreshExecutor;
+
+	/**
+	 * Statistics of a cycle before they are applied in delta mode, reused across cycles
+	 */
+	private final Map<String, String> cycleStatistics = new HashMap<>();
+
+	/**
+	 * Initial capacity of the statistics map, sized after the last cycle so it is filled without rehashing
+	 */
+	private int statisticsCapacity = 16;
+
+	/**
+	 * Commands due in the current cycle, reused across cycles
+	 */
+	private final List<LogitechCommand> dueCommands = new ArrayList<>(LogitechCommand.values().length);
+
+	/**
+	 * Summaries of the rolling windows and probe samples, reused across cycles
+	 */
+	private final long[] summary = new long[4];
+
+	/**
+	 * Current connection counters, reused across cycles
+	 */
+	private final long[] connections = new long[ConnectionMetrics.COUNTERS];
+
+	/**
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode.name();
+	}
+
+	/**
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
+	 */
+	public void setPingMode(String pingMode) {
+		this.pingMode = PingMode.ofString(pingMode);
+	}
+
+	/**
+	 * Retrieves {@link #concurrentPing}
+	 *
+	 * @return value of {@link #concurrentPing}
+	 */
+	public boolean isConcurrentPing() {
+		return concurrentPing;
+	}
+
+	/**
+	 * Sets {@link #concurrentPing} value
+	 *
+	 * @param concurrentPing new value of {@link #concurrentPing}
+	 */
+	public void setConcurrentPing(boolean concurrentPing) {
+		this.concurrentPing = concurrentPing;
+	}
+
+	/**
+	 * Retrieves {@link #httpPingMaxAge}
+	 *
+	 * @return value of {@link #httpPingMaxAge}
+	 */
+	public long getHttpPingMaxAge() {
+		return httpPingMaxAge;
+	}
+
+	/**
+	 * Sets {@link #httpPingMaxAge} value
+	 *
+	 * @param httpPingMaxAge age in seconds of the round trips reused by the HTTP ping, 0 to send a request on every ping
+	 */
+	public void setHttpPingMaxAge(long httpPingMaxAge) {
+		this.httpPingMaxAge = httpPingMaxAge;
+	}
+
+	/**
+	 * Retrieves the time a resolved address of the device is reused by the TCP ping
+	 *
+	 * @return address cache TTL in seconds
+	 */
+	public long getPingAddressTtl() {
+		return tcpPinger.getAddressTtl() / 1000;
+	}
+
+	/**
+	 * Sets the time a resolved address of the device is reused by the TCP ping
+	 *
+	 * @param pingAddressTtl address cache TTL in seconds, 0 to resolve the host on every ping
+	 */
+	public void setPingAddressTtl(long pingAddressTtl) {
+		tcpPinger.setAddressTtl(pingAddressTtl * 1000);
+	}
+
+	/**
+	 * Retrieves {@link #concurrentFetch}
+	 *
+	 * @return value of {@link #concurrentFetch}
+	 */
+	public boolean isConcurrentFetch() {
+		return concurrentFetch;
+	}
+
+	/**
+	 * Sets {@link #concurrentFetch} value
+	 *
+	 * @param concurrentFetch new value of {@link #concurrentFetch}
+	 */
+	public void setConcurrentFetch(boolean concurrentFetch) {
+		this.concurrentFetch = concurrentFetch;
+	}
+
+	/**
+	 * Retrieves {@link #streamingDecode}
+	 *
+	 * @return value of {@link #streamingDecode}
+	 */
+	public boolean isStreamingDecode() {
+		return streamingDecode;
+	}
+
+	/**
+	 * Sets {@link #streamingDecode} value
+	 *
+	 * @param streamingDecode new value of {@link #streamingDecode}
+	 */
+	public void setStreamingDecode(boolean streamingDecode) {
+		this.streamingDecode = streamingDecode;
+	}
+
+	/**
+	 * Retrieves the polling interval of {@link LogitechCommand#DEVICE_INFO}
+	 *
+	 * @return polling interval in seconds
+	 */
+	public long getDeviceInfoPollingInterval() {
+		return getPollingInterval(LogitechCommand.DEVICE_INFO);
+	}
+
+	/**
+	 * Sets the polling interval of {@link LogitechCommand#DEVICE_INFO}
+	 *
+	 * @param deviceInfoPollingInterval polling interval in seconds, 0 to refresh on every cycle
+	 */
+	public void setDeviceInfoPollingInterval(long deviceInfoPollingInterval) {
+		setPollingInterval(LogitechCommand.DEVICE_INFO, deviceInfoPollingInterval);
+	}
+
+	/**
+	 * Retrieves the polling interval of {@link LogitechCommand#INSIGHTS_ROOM}
+	 *
+	 * @return polling interval in seconds
+	 */
+	public long getRoomInsightsPollingInterval() {
+		return getPollingInterval(LogitechCommand.INSIGHTS_ROOM);
+	}
+
+	/**
+	 * Sets the polling interval of {@link LogitechCommand#INSIGHTS_ROOM}
+	 *
+	 * @param roomInsightsPollingInterval polling interval in seconds, 0 to refresh on every cycle
+	 */
+	public void setRoomInsightsPollingInterval(long roomInsightsPollingInterval) {
+		setPollingInterval(LogitechCommand.INSIGHTS_ROOM, roomInsightsPollingInterval);
+	}
+
+	/**
+	 * Retrieves the polling interval of {@link LogitechCommand#INSIGHTS_DEVICE}
+	 *
+	 * @return polling interval in seconds
+	 */
+	public long getDeviceInsightsPollingInterval() {
+		return getPollingInterval(LogitechCommand.INSIGHTS_DEVICE);
+	}
+
+	/**
+	 * Sets the polling interval of {@link LogitechCommand#INSIGHTS_DEVICE}
+	 *
+	 * @param deviceInsightsPollingInterval polling interval in seconds, 0 to refresh on every cycle
+	 */
+	public void setDeviceInsightsPollingInterval(long deviceInsightsPollingInterval) {
+		setPollingInterval(LogitechCommand.INSIGHTS_DEVICE, deviceInsightsPollingInterval);
+	}
+
+	/**
+	 * Retrieves the polling interval of {@link LogitechCommand#PERIPHERALS_INFO}
+	 *
+	 * @return polling interval in seconds
+	 */
+	public long getPeripheralsPollingInterval() {
+		return getPollingInterval(LogitechCommand.PERIPHERALS_INFO);
+	}
+
+	/**
+	 * Sets the polling interval of {@link LogitechCommand#PERIPHERALS_INFO}
+	 *
+	 * @param peripheralsPollingInterval polling interval in seconds, 0 to refresh on every cycle
+	 */
+	public void setPeripheralsPollingInterval(long peripheralsPollingInterval) {
+		setPollingInterval(LogitechCommand.PERIPHERALS_INFO, peripheralsPollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #adapterMetrics}
+	 *
+	 * @return value of {@link #adapterMetrics}
+	 */
+	public boolean isAdapterMetrics() {
+		return adapterMetrics;
+	}
+
+	/**
+	 * Sets {@link #adapterMetrics} value
+	 *
+	 * @param adapterMetrics new value of {@link #adapterMetrics}
+	 */
+	public void setAdapterMetrics(boolean adapterMetrics) {
+		this.adapterMetrics = adapterMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #adapterMetricsWindow}
+	 *
+	 * @return value of {@link #adapterMetricsWindow}
+	 */
+	public int getAdapterMetricsWindow() {
+		return adapterMetricsWindow;
+	}
+
+	/**
+	 * Sets {@link #adapterMetricsWindow} value
+	 *
+	 * @param adapterMetricsWindow number of samples the AdapterMetrics percentiles are computed over
+	 */
+	public void setAdapterMetricsWindow(int adapterMetricsWindow) {
+		this.adapterMetricsWindow = Math.max(1, adapterMetricsWindow);
+		cycleTime.resize(this.adapterMetricsWindow);
+		commandStates.values().forEach(state -> state.getMetrics().setWindow(this.adapterMetricsWindow));
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreaker}
+	 *
+	 * @return value of {@link #circuitBreaker}
+	 */
+	public boolean isCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * Sets {@link #circuitBreaker} value, the breakers are closed again once it is disabled
+	 *
+	 * @param circuitBreaker new value of {@link #circuitBreaker}
+	 */
+	public void setCircuitBreaker(boolean circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+		if (!circuitBreaker) {
+			commandStates.values().forEach(state -> state.getBreaker().reset());
+		}
+	}
+
+	/**
+	 * Retrieves the consecutive failures opening the circuit breaker of a command
+	 *
+	 * @return failure threshold
+	 */
+	public int getCircuitBreakerThreshold() {
+		return commandStates.get(LogitechCommand.DEVICE_INFO).getBreaker().getFailureThreshold();
+	}
+
+	/**
+	 * Sets the consecutive failures opening the circuit breaker of a command
+	 *
+	 * @param circuitBreakerThreshold failure threshold, 0 to send every command on every cycle regardless of failures
+	 */
+	public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+		commandStates.values().forEach(state -> state.getBreaker().setFailureThreshold(circuitBreakerThreshold));
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerBackoff}
+	 *
+	 * @return value of {@link #circuitBreakerBackoff} in seconds
+	 */
+	public long getCircuitBreakerBackoff() {
+		return circuitBreakerBackoff;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerBackoff} value
+	 *
+	 * @param circuitBreakerBackoff backoff of the first opening in seconds, doubled on every failed probe
+	 */
+	public void setCircuitBreakerBackoff(long circuitBreakerBackoff) {
+		this.circuitBreakerBackoff = circuitBreakerBackoff;
+		commandStates.values().forEach(state -> state.getBreaker().setBaseBackoff(circuitBreakerBackoff * 1000));
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerMaxBackoff}
+	 *
+	 * @return value of {@link #circuitBreakerMaxBackoff} in seconds
+	 */
+	public long getCircuitBreakerMaxBackoff() {
+		return circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerMaxBackoff} value
+	 *
+	 * @param circuitBreakerMaxBackoff upper bound of the backoff in seconds
+	 */
+	public void setCircuitBreakerMaxBackoff(long circuitBreakerMaxBackoff) {
+		this.circuitBreakerMaxBackoff = circuitBreakerMaxBackoff;
+		commandStates.values().forEach(state -> state.getBreaker().setMaxBackoff(circuitBreakerMaxBackoff * 1000));
+	}
+
+	/**
+	 * Retrieves {@link #connectionMaxIdleTime}
+	 *
+	 * @return value of {@link #connectionMaxIdleTime} in seconds
+	 */
+	public long getConnectionMaxIdleTime() {
+		return connectionMaxIdleTime;
+	}
+
+	/**
+	 * Sets {@link #connectionMaxIdleTime} value, applied on init
+	 *
+	 * @param connectionMaxIdleTime longest time in seconds a connection is kept open between requests
+	 */
+	public void setConnectionMaxIdleTime(long connectionMaxIdleTime) {
+		this.connectionMaxIdleTime = connectionMaxIdleTime;
+	}
+
+	/**
+	 * Retrieves {@link #connectionValidateAfterInactivity}
+	 *
+	 * @return value of {@link #connectionValidateAfterInactivity} in milliseconds
+	 */
+	public int getConnectionValidateAfterInactivity() {
+		return connectionValidateAfterInactivity;
+	}
+
+	/**
+	 * Sets {@link #connectionValidateAfterInactivity} value
+	 *
+	 * @param connectionValidateAfterInactivity idle time in milliseconds after which a connection is checked before reuse, 0 to disable
+	 */
+	public void setConnectionValidateAfterInactivity(int connectionValidateAfterInactivity) {
+		this.connectionValidateAfterInactivity = connectionValidateAfterInactivity;
+		connectionMetrics.setValidateAfterInactivity(connectionValidateAfterInactivity);
+	}
+
+	/**
+	 * Retrieves {@link #deltaStatistics}
+	 *
+	 * @return value of {@link #deltaStatistics}
+	 */
+	public boolean isDeltaStatistics() {
+		return deltaStatistics;
+	}
+
+	/**
+	 * Sets {@link #deltaStatistics} value
+	 *
+	 * @param deltaStatistics new value of {@link #deltaStatistics}
+	 */
+	public void setDeltaStatistics(boolean deltaStatistics) {
+		this.deltaStatistics = deltaStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #occupancyStatistics}
+	 *
+	 * @return value of {@link #occupancyStatistics}
+	 */
+	public boolean isOccupancyStatistics() {
+		return occupancyStatistics;
+	}
+
+	/**
+	 * Sets {@link #occupancyStatistics} value
+	 *
+	 * @param occupancyStatistics new value of {@link #occupancyStatistics}
+	 */
+	public void setOccupancyStatistics(boolean occupancyStatistics) {
+		this.occupancyStatistics = occupancyStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #transitionHistory}
+	 *
+	 * @return value of {@link #transitionHistory}
+	 */
+	public boolean isTransitionHistory() {
+		return transitionHistory;
+	}
+
+	/**
+	 * Sets {@link #transitionHistory} value
+	 *
+	 * @param transitionHistory new value of {@link #transitionHistory}
+	 */
+	public void setTransitionHistory(boolean transitionHistory) {
+		this.transitionHistory = transitionHistory;
+	}
+
+	/**
+	 * Retrieves {@link #adaptivePolling}
+	 *
+	 * @return value of {@link #adaptivePolling}
+	 */
+	public boolean isAdaptivePolling() {
+		return adaptivePolling;
+	}
+
+	/**
+	 * Sets {@link #adaptivePolling} value, the configured polling intervals are used again once it is disabled
+	 *
+	 * @param adaptivePolling new value of {@link #adaptivePolling}
+	 */
+	public void setAdaptivePolling(boolean adaptivePolling) {
+		this.adaptivePolling = adaptivePolling;
+		if (!adaptivePolling) {
+			roomActivity = RoomActivity.UNKNOWN;
+			for (LogitechCommand command : ADAPTIVE_COMMANDS) {
+				commandStates.get(command).setAdaptedPollingInterval(-1);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves {@link #activePollingInterval}
+	 *
+	 * @return value of {@link #activePollingInterval}
+	 */
+	public long getActivePollingInterval() {
+		return activePollingInterval;
+	}
+
+	/**
+	 * Sets {@link #activePollingInterval} value
+	 *
+	 * @param activePollingInterval longest polling interval in seconds while the room is in use
+	 */
+	public void setActivePollingInterval(long activePollingInterval) {
+		this.activePollingInterval = Math.max(0, activePollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #idlePollingInterval}
+	 *
+	 * @return value of {@link #idlePollingInterval}
+	 */
+	public long getIdlePollingInterval() {
+		return idlePollingInterval;
+	}
+
+	/**
+	 * Sets {@link #idlePollingInterval} value
+	 *
+	 * @param idlePollingInterval shortest polling interval in seconds while the room is vacant
+	 */
+	public void setIdlePollingInterval(long idlePollingInterval) {
+		this.idlePollingInterval = Math.max(0, idlePollingInterval);
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotInterval}
+	 *
+	 * @return value of {@link #snapshotInterval}
+	 */
+	public long getSnapshotInterval() {
+		return snapshotInterval;
+	}
+
+	/**
+	 * Sets {@link #snapshotInterval} value
+	 *
+	 * @param snapshotInterval minimum time in seconds between two snapshot writes
+	 */
+	public void setSnapshotInterval(long snapshotInterval) {
+		this.snapshotInterval = Math.max(0, snapshotInterval);
+	}
+
+	/**
+	 * Retrieves {@link #staleWhileRevalidate}
+	 *
+	 * @return value of {@link #staleWhileRevalidate}
+	 */
+	public boolean isStaleWhileRevalidate() {
+		return staleWhileRevalidate;
+	}
+
+	/**
+	 * Sets {@link #staleWhileRevalidate} value
+	 *
+	 * @param staleWhileRevalidate new value of {@link #staleWhileRevalidate}
+	 */
+	public void setStaleWhileRevalidate(boolean staleWhileRevalidate) {
+		this.staleWhileRevalidate = staleWhileRevalidate;
+	}
+
+	/**
+	 * Retrieves {@link #minRefreshInterval}
+	 *
+	 * @return value of {@link #minRefreshInterval}
+	 */
+	public long getMinRefreshInterval() {
+		return minRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #minRefreshInterval} value
+	 *
+	 * @param minRefreshInterval minimum time in seconds between two background refreshes
+	 */
+	public void setMinRefreshInterval(long minRefreshInterval) {
+		this.minRefreshInterval = Math.max(0, minRefreshInterval);
+	}
+
+	/**
+	 * Retrieves {@link #maxStaleness}
+	 *
+	 * @return value of {@link #maxStaleness}
+	 */
+	public long getMaxStaleness() {
+		return maxStaleness;
+	}
+
+	/**
+	 * Sets {@link #maxStaleness} value
+	 *
+	 * @param maxStaleness age in seconds of the last statistics after which a call waits for a refresh
+	 */
+	public void setMaxStaleness(long maxStaleness) {
+		this.maxStaleness = Math.max(0, maxStaleness);
+	}
+
+	/**
+	 * Retrieves {@link #includedGroups}
+	 *
+	 * @return value of {@link #includedGroups}
+	 */
+	public String getIncludedGroups() {
+		return includedGroups;
+	}
+
+	/**
+	 * Sets {@link #includedGroups} value
+	 *
+	 * @param includedGroups comma-separated groups to retrieve, for example "DeviceInfo, RoomInsights, Display"
+	 */
+	public void setIncludedGroups(String includedGroups) {
+		this.includedGroups = includedGroups;
+		updateGroupFilter();
+	}
+
+	/**
+	 * Retrieves {@link #excludedGroups}
+	 *
+	 * @return value of {@link #excludedGroups}
+	 */
+	public String getExcludedGroups() {
+		return excludedGroups;
+	}
+
+	/**
+	 * Sets {@link #excludedGroups} value
+	 *
+	 * @param excludedGroups comma-separated groups not to retrieve, for example "USBDevice, Remote, IPController"
+	 */
+	public void setExcludedGroups(String excludedGroups) {
+		this.excludedGroups = excludedGroups;
+		updateGroupFilter();
+	}
+
+	/**
+	 * Rebuilds {@link #groupFilter} from {@link #includedGroups} and {@link #excludedGroups}
+	 */
+	private void updateGroupFilter() {
+		GroupFilter filter = new GroupFilter(includedGroups, excludedGroups);
+		if (!filter.getUnknownGroups().isEmpty() && logger.isWarnEnabled()) {
+			logger.warn(String.format("Ignoring unknown groups %s, a group is a command such as RoomInsights or a peripheral type such as USBDevice",
+					filter.getUnknownGroups()));
+		}
+		groupFilter = filter;
+	}
+
+	/**
+	 * Retrieves {@link #stablePeripheralSlots}
+	 *
+	 * @return value of {@link #stablePeripheralSlots}
+	 */
+	public boolean isStablePeripheralSlots() {
+		return stablePeripheralSlots;
+	}
+
+	/**
+	 * Sets {@link #stablePeripheralSlots} value. In stable slot mode, the groups of the peripherals are always numbered
+	 * from 1, even when a type has a single item.
+	 *
+	 * @param stablePeripheralSlots new value of {@link #stablePeripheralSlots}
+	 */
+	public void setStablePeripheralSlots(boolean stablePeripheralSlots) {
+		this.stablePeripheralSlots = stablePeripheralSlots;
+	}
+
+	/**
+	 * Sets {@link #sharedTokenExecutor} value, before init
+	 *
+	 * @param sharedTokenExecutor executor running the sign-ins of every device of an aggregator
+	 */
+	void setSharedTokenExecutor(ExecutorService sharedTokenExecutor) {
+		this.sharedTokenExecutor = sharedTokenExecutor;
+	}
+
+	/**
+	 * Sets {@link #sharedHttpClient} value, before init
+	 *
+	 * @param sharedHttpClient supplies the pooled client shared by every device of an aggregator
+	 */
+	void setSharedHttpClient(Callable<HttpClient> sharedHttpClient) {
+		this.sharedHttpClient = sharedHttpClient;
+	}
+
+	/**
+	 * Constructor instance
+	 */
+	public LogitechCollabOsCommunicator() {
+		this.setTrustAllCertificates(true);
+		for (LogitechCommand command : LogitechCommand.values()) {
+			commandStates.put(command, new CommandState(command));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * This method is recalled by Symphony to get the list of statistics to be displayed
+	 * After a snapshot was loaded on init, its statistics are served until the first refresh completes in the background.
+	 * In stale-while-revalidate mode, the last statistics are served and refreshed in the background unless they are
+	 * older than {@link #maxStaleness}.
+	 *
+	 * @return List<Statistics> This return the list of statistics.
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		ExtendedStatistics warm = warmStatistics;
+		if (warm != null) {
+			return Collections.singletonList(serveWarmStatistics(warm));
+		}
+		if (staleWhileRevalidate) {
+			return Collections.singletonList(serveStaleWhileRevalidate());
+		}
+		return Collections.singletonList(pollStatistics());
+	}
+
+	/**
+	 * Serves the last statistics and starts a background refresh if {@link #minRefreshInterval} elapsed since the last one.
+	 * Statistics older than {@link #maxStaleness}, or missing, are refreshed before being served.
+	 *
+	 * @return the statistics to report
+	 * @throws Exception if the statistics had to be refreshed and the refresh failed
+	 */
+	private ExtendedStatistics serveStaleWhileRevalidate() throws Exception {
+		ExtendedStatistics last = localExtendedStatistics;
+		long now = System.currentTimeMillis();
+		if (last == null || statisticsTime == 0 || now - statisticsTime >= maxStaleness * 1000) {
+			try {
+				return startRefresh(0).get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw e;
+			}
+		}
+		startRefresh(minRefreshInterval * 1000);
+		return last;
+	}
+
+	/**
+	 * Starts a refresh on {@link #refreshExecutor}, unless one is in flight or the last one started less than the given interval ago
+	 *
+	 * @param interval minimum time in milliseconds since the start of the last refresh
+	 * @return the in-flight refresh, or the last one if no refresh was started
+	 */
+	private Future<ExtendedStatistics> startRefresh(long interval) {
+		synchronized (refreshLock) {
+			long now = System.currentTimeMillis();
+			if (refresh == null || refresh.isDone() && now - refreshStartTime >= interval) {
+				refreshStartTime = now;
+				refresh = refreshExecutor.submit(() -> {
+					try {
+						return pollStatistics();
+					} catch (Exception e) {
+						logger.warn(String.format("Background refresh of %s failed: %s", host, e.getMessage()));
+						throw e;
+					}
+				});
+			}
+			return refresh;
+		}
+	}
+
+	/**
+	 * Serves the statistics loaded from the snapshot while the first refresh runs, and the refreshed statistics once it succeeded
+	 *
+	 * @param warm the statistics loaded from the snapshot
+	 * @return the statistics to report
+	 * @throws Exception if the first refresh failed to sign in
+	 */
+	private ExtendedStatistics serveWarmStatistics(ExtendedStatistics warm) throws Exception {
+		// Never replaces a completed first refresh before its outcome is read
+		Future<ExtendedStatistics> firstRefresh = startRefresh(Long.MAX_VALUE);
+		if (!firstRefresh.isDone()) {
+			return warm;
+		}
+		synchronized (refreshLock) {
+			if (refresh == firstRefresh) {
+				refresh = null;
+			}
+		}
+		try {
+			ExtendedStatistics live = firstRefresh.get();
+			warmStatistics = null;
+			return live;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof FailedLoginException) {
+				throw (FailedLoginException) e.getCause();
+			}
+			logger.warn(String.format("First refresh of %s failed, serving the snapshot: %s", host, e.getCause().getMessage()));
+			return warm;
+		}
+	}
+
+	/**
+	 * Polls the device for the commands due in this cycle and assembles the statistics
+	 *
+	 * @return the statistics
+	 * @throws Exception if the sign-in failed, or if commands failed or were short-circuited and no command has data to serve
+	 */
+	private ExtendedStatistics pollStatistics() throws Exception {
+		long cycleStart = System.nanoTime();
+		if (adapterMetrics) {
+			connectionMetrics.snapshot(cycleStartConnections);
+		}
+		checkValidApiToken();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> stats;
+		if (deltaStatistics) {
+			stats = cycleStatistics;
+			stats.clear();
+		} else {
+			stats = new HashMap<>(statisticsCapacity);
+		}
+		failedMonitor.set(0);
+		attemptedMonitor.set(0);
+		dueCommands.clear();
+		GroupFilter filter = groupFilter;
+		long now = System.currentTimeMillis();
+		int shortCircuited = 0;
+		for (CommandState state : commandStates.values()) {
+			if (!filter.isEnabled(state.getCommand())) {
+				continue;
+			}
+			if (state.isRefreshDue(now)) {
+				if (!circuitBreaker || state.getBreaker().allowRequest(now)) {
+					dueCommands.add(state.getCommand());
+				} else {
+					shortCircuited++;
+					if (adapterMetrics) {
+						state.getMetrics().recordOutcome(CommandOutcome.SKIPPED);
+					}
+				}
+			}
+		}
+		if (concurrentFetch && fetchExecutor != null) {
+			retrieveDataConcurrently(dueCommands);
+		} else {
+			for (LogitechCommand command : dueCommands) {
+				retrieveData(command);
+			}
+		}
+		if (failedMonitor.get() + shortCircuited > 0 && !hasValidData(filter, now)) {
+			if (adapterMetrics) {
+				recordCycle(cycleStart);
+			}
+			throw new ResourceNotReachableException("Failed all command. Please double-check the requests");
+		}
+		for (CommandState state : commandStates.values()) {
+			if (!filter.isEnabled(state.getCommand())) {
+				continue;
+			}
+			Map<String, String> commandStats = state.getStats();
+			if (commandStats == null) {
+				commandStats = state.obtainStatsBuffer();
+				populateCommandStats(state.getCommand(), state.getData(), commandStats);
+				state.setStats(commandStats);
+			}
+			stats.putAll(commandStats);
+			if (circuitBreaker) {
+				String[] health = HEALTH_KEYS[state.getCommand().ordinal()];
+				stats.put(health[0], state.getBreaker().getState().getName());
+				stats.put(health[1], String.valueOf(state.getBreaker().getConsecutiveFailures()));
+			}
+		}
+		if (pingMode == PingMode.DUAL) {
+			populateProbeSamples(stats, ICMP_PROBE_KEYS, icmpSamples);
+			populateProbeSamples(stats, TCP_PROBE_KEYS, tcpSamples);
+		}
+		if (occupancyStatistics) {
+			populateOccupancy(stats, System.currentTimeMillis());
+		}
+		if (transitionHistory) {
+			populateTransitions(stats, System.currentTimeMillis());
+		}
+		if (adaptivePolling) {
+			adaptPollingIntervals();
+			populateAdaptivePolling(stats);
+		}
+		if (adapterMetrics) {
+			recordCycle(cycleStart);
+			populateAdapterMetrics(stats);
+		}
+		if (deltaStatistics) {
+			stats = delta.apply(stats, System.currentTimeMillis());
+		} else {
+			statisticsCapacity = Math.max(16, stats.size() * 4 / 3 + 1);
+		}
+		if (deltaStatistics && refreshExecutor != null) {
+			// The delta map is updated in place by the next background refresh while the caller may still read this one
+			extendedStatistics.setStatistics(new HashMap<>(stats));
+		} else {
+			extendedStatistics.setStatistics(stats);
+		}
+
+		localExtendedStatistics = extendedStatistics;
+		statisticsTime = System.currentTimeMillis();
+		saveSnapshot(stats, false);
+
+		return extendedStatistics;
+	}
+
+	/**
+	 * Check whether any command was answered in the current cycle or any included command has data still within its polling interval
+	 *
+	 * @param filter the groups retrieved in the current cycle
+	 * @param now start of the current cycle in milliseconds
+	 * @return true if at least one included command has data to serve
+	 */
+	private boolean hasValidData(GroupFilter filter, long now) {
+		if (failedMonitor.get() < dueCommands.size()) {
+			return true;
+		}
+		for (CommandState state : commandStates.values()) {
+			if (filter.isEnabled(state.getCommand()) && state.hasValidData(now)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+		// The device no require authenticate
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (this.pingMode == PingMode.ICMP) {
+			return super.ping();
+		} else if (this.pingMode == PingMode.TCP) {
+			if (isInitialized()) {
+				long[] attempts;
+				try {
+					attempts = tcpPinger.ping(this.host, this.getPort(), this.getPingAttempts(), this.getPingTimeout(), this.concurrentPing);
+				} catch (ConnectException ex) {
+					throw new RuntimeException("Socket connection timed out", ex);
+				} catch (UnknownHostException ex) {
+					throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+				} catch (Exception e) {
+					if (this.logger.isWarnEnabled()) {
+						this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+					}
+					return this.getPingTimeout();
+				}
+				long pingResultTotal = 0L;
+				for (int i = 0; i < attempts.length; i++) {
+					if (attempts[i] < 0) {
+						if (this.logger.isDebugEnabled()) {
+							this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+						}
+						return this.getPingTimeout();
+					}
+					pingResultTotal += attempts[i];
+					if (this.logger.isTraceEnabled()) {
+						this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), formatMillis(attempts[i])));
+					}
+				}
+				return toPingMillis(pingResultTotal / attempts.length);
+			} else {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+		} else if (this.pingMode == PingMode.HTTP) {
+			if (isInitialized()) {
+				return httpPing();
+			} else {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+		} else if (this.pingMode == PingMode.DUAL) {
+			if (isInitialized()) {
+				return dualPing();
+			} else {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+		} else {
+			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
+		}
+	}
+
+	/**
+	 * Measures the latency of the device API. Round trips of the commands sent within {@link #httpPingMaxAge} are averaged,
+	 * so that no request is added to the ones of the poll cycle. Without fresh round trips, the first command included by
+	 * the group filter is requested, the device info if the filter includes none.
+	 *
+	 * @return latency in milliseconds, the ping timeout if the request fails
+	 * @throws Exception if the device rejects the credentials
+	 */
+	private int httpPing() throws Exception {
+		long now = System.currentTimeMillis();
+		long roundTripTotal = 0;
+		int roundTrips = 0;
+		for (CommandState state : commandStates.values()) {
+			long roundTripTime = state.getRoundTripTime();
+			if (roundTripTime > 0 && now - roundTripTime < httpPingMaxAge * 1000) {
+				roundTripTotal += state.getRoundTrip();
+				roundTrips++;
+			}
+		}
+		if (roundTrips > 0) {
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(String.format("PING OK: Passive estimate for %s from %s round trips: %s ms", host, roundTrips, formatMillis(roundTripTotal / roundTrips)));
+			}
+			return toPingMillis(roundTripTotal / roundTrips);
+		}
+		LogitechCommand probe = LogitechCommand.DEVICE_INFO;
+		GroupFilter filter = groupFilter;
+		for (LogitechCommand command : LogitechCommand.values()) {
+			if (filter.isEnabled(command)) {
+				probe = command;
+				break;
+			}
+		}
+		try {
+			checkValidApiToken();
+			long start = System.nanoTime();
+			try {
+				requestCommand(probe);
+			} catch (NotModifiedException e) {
+				// A 304 is a complete round trip
+			}
+			long roundTrip = System.nanoTime() - start;
+			commandStates.get(probe).recordRoundTrip(roundTrip, System.currentTimeMillis());
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace(String.format("PING OK: Request to %s succeeded in %s ms", host, formatMillis(roundTrip)));
+			}
+			return toPingMillis(roundTrip);
+		} catch (FailedLoginException e) {
+			throw e;
+		} catch (Exception e) {
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("PING TIMEOUT: Request to %s did not succeed, ERROR %s: ", host, e.getMessage()));
+			}
+			return this.getPingTimeout();
+		}
+	}
+
+	/**
+	 * Runs an ICMP and a TCP probe side by side for every attempt, keeping going after lost probes, and records them
+	 * into {@link #icmpSamples} and {@link #tcpSamples}. A device answering ICMP but not TCP is hung rather than unreachable.
+	 *
+	 * @return average TCP latency in milliseconds, the ICMP one if every TCP probe was lost, the ping timeout if both were
+	 * @throws Exception if the ICMP probe is interrupted
+	 */
+	private int dualPing() throws Exception {
+		long icmpTotal = 0;
+		long tcpTotal = 0;
+		int icmpReceived = 0;
+		int tcpReceived = 0;
+		for (int i = 0; i < this.getPingAttempts(); i++) {
+			Future<Long> icmpFuture = probeExecutor != null ? probeExecutor.submit(this::icmpProbe) : null;
+			long tcp = tcpProbe();
+			long icmp = icmpFuture != null ? icmpFuture.get() : icmpProbe();
+			if (tcp >= 0) {
+				tcpSamples.record(tcp);
+				tcpTotal += tcp;
+				tcpReceived++;
+			} else {
+				tcpSamples.recordLoss();
+			}
+			if (icmp >= 0) {
+				icmpSamples.record(icmp);
+				icmpTotal += icmp;
+				icmpReceived++;
+			} else {
+				icmpSamples.recordLoss();
+			}
+		}
+		if (tcpReceived > 0) {
+			return toPingMillis(tcpTotal / tcpReceived);
+		}
+		if (icmpReceived > 0) {
+			return toPingMillis(icmpTotal / icmpReceived);
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug(String.format("PING DISCONNECTED: Neither ICMP nor TCP probes to %s succeeded within %sms", host, this.getPingTimeout()));
+		}
+		return this.getPingTimeout();
+	}
+
+	/**
+	 * Sends one ICMP echo request
+	 *
+	 * @return round trip in nanoseconds, -1 if the probe was lost
+	 */
+	private long icmpProbe() {
+		try {
+			int rtt = IcmpUtils.executePingRequest(this.host, this.getPingTimeout());
+			return rtt < this.getPingTimeout() ? Math.max(0, rtt) * 1000000L : -1;
+		} catch (RuntimeException e) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("ICMP probe to %s failed: %s", host, e.getMessage()));
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Opens one TCP connection
+	 *
+	 * @return connection time in nanoseconds, -1 if the probe was lost or refused
+	 */
+	private long tcpProbe() {
+		try {
+			return tcpPinger.ping(this.host, this.getPort(), 1, this.getPingTimeout(), false)[0];
+		} catch (IOException e) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("TCP probe to %s on port %s failed: %s", host, this.getPort(), e.getMessage()));
+			}
+			return -1;
+		}
+	}
+
+	/**
+	 * Converts a latency to the value reported by ping
+	 *
+	 * @param nanos latency in nanoseconds
+	 * @return latency rounded to milliseconds, at least 1
+	 */
+	private static int toPingMillis(long nanos) {
+		return Math.max(1, Math.toIntExact(Math.round(nanos / 1000000.0)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		if (concurrentFetch && getMaxConnectionsPerRoute() < LogitechCommand.values().length) {
+			setMaxConnectionsPerRoute(LogitechCommand.values().length);
+		}
+		if (connectionMaxIdleTime > 0) {
+			setEvictExpiredConnections(true);
+			setEvictIdleConnections(true);
+			setConnectionsMaxIdleTime((int) Math.min(Integer.MAX_VALUE, connectionMaxIdleTime * 1000));
+		}
+		super.internalInit();
+		if (pingMode == PingMode.DUAL) {
+			probeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "LogitechCollabOs probe " + host);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		if (concurrentFetch) {
+			fetchExecutor = Executors.newFixedThreadPool(LogitechCommand.values().length, runnable -> {
+				Thread thread = new Thread(runnable, "LogitechCollabOs fetch " + host);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		tokenExecutor = sharedTokenExecutor != null ? sharedTokenExecutor : Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "LogitechCollabOs token " + host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (StringUtils.isNotNullOrEmpty(snapshotDirectory)) {
+			snapshotStore = new SnapshotStore(Paths.get(snapshotDirectory, "collabos-" + host.replaceAll("[^A-Za-z0-9.-]", "_") + "-" + getPort() + ".snapshot"));
+			loadSnapshot();
+		}
+		if (staleWhileRevalidate || warmStatistics != null) {
+			refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "LogitechCollabOs refresh " + host);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A 401 is returned instead of thrown, as the base class would otherwise close the client under the requests running
+	 * on other threads, see {@link #requestCommand(LogitechCommand)}. The connections of the client are counted by
+	 * {@link #connectionMetrics}.
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		if (sharedHttpClient != null) {
+			RestTemplate restTemplate = meteredRestTemplate;
+			return restTemplate != null ? restTemplate : prepareRestTemplate(null);
+		}
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		return restTemplate == meteredRestTemplate ? restTemplate : prepareRestTemplate(restTemplate);
+	}
+
+	/**
+	 * Prepares {@link #meteredRestTemplate}. A template of the base class, built again after a disconnect, gets the 401
+	 * pass-through handler and its client wrapped by {@link #connectionMetrics}. Without one, the template is created on the
+	 * client of {@link #sharedHttpClient} with the timeout of this communicator, the certificates being trusted as configured
+	 * on the shared client.
+	 *
+	 * @param restTemplate the template of the base class, null to create the template on the shared client
+	 * @return the prepared template
+	 * @throws Exception if the shared client cannot be obtained
+	 */
+	private RestTemplate prepareRestTemplate(RestTemplate restTemplate) throws Exception {
+		synchronized (restTemplateLock) {
+			if (restTemplate == null && meteredRestTemplate == null) {
+				HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(connectionMetrics.wrap(sharedHttpClient.call()));
+				requestFactory.setConnectTimeout(getTimeout());
+				requestFactory.setConnectionRequestTimeout(getTimeout());
+				requestFactory.setReadTimeout(getTimeout());
+				RestTemplate sharedRestTemplate = new RestTemplate(requestFactory);
+				sharedRestTemplate.setErrorHandler(UNAUTHORIZED_RESPONSE_HANDLER);
+				meteredRestTemplate = sharedRestTemplate;
+			} else if (restTemplate != null && restTemplate != meteredRestTemplate) {
+				restTemplate.setErrorHandler(UNAUTHORIZED_RESPONSE_HANDLER);
+				ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+				if (requestFactory instanceof HttpComponentsClientHttpRequestFactory) {
+					HttpComponentsClientHttpRequestFactory httpComponentsFactory = (HttpComponentsClientHttpRequestFactory) requestFactory;
+					httpComponentsFactory.setHttpClient(connectionMetrics.wrap(httpComponentsFactory.getHttpClient()));
+				}
+				meteredRestTemplate = restTemplate;
+			}
+			return meteredRestTemplate;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (warmStatistics == null && localExtendedStatistics != null) {
+			saveSnapshot(localExtendedStatistics.getStatistics(), true);
+		}
+		warmStatistics = null;
+		synchronized (refreshLock) {
+			refresh = null;
+			refreshStartTime = 0;
+		}
+		statisticsTime = 0;
+		if (refreshExecutor != null) {
+			refreshExecutor.shutdownNow();
+			refreshExecutor = null;
+		}
+		snapshotStore = null;
+		snapshotDirty = false;
+		lastSnapshotTime = 0;
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
+			localExtendedStatistics.getStatistics().clear();
+			localExtendedStatistics.getControllableProperties().clear();
+		}
+		commandStates.values().forEach(CommandState::reset);
+		meteredRestTemplate = null;
+		connectionMetrics.reset();
+		Arrays.fill(lastCycleConnections, 0);
+		roomActivity = RoomActivity.UNKNOWN;
+		cycleTime.clear();
+		tokenRefreshCount.set(0);
+		if (fetchExecutor != null) {
+			fetchExecutor.shutdownNow();
+			fetchExecutor = null;
+		}
+		if (probeExecutor != null) {
+			probeExecutor.shutdownNow();
+			probeExecutor = null;
+		}
+		icmpSamples.clear();
+		tcpSamples.clear();
+		delta.clear();
+		occupancySeries.clear();
+		transitionLog.clear();
+		peripheralIndex.clear();
+		cycleStatistics.clear();
+		if (tokenExecutor != null && tokenExecutor != sharedTokenExecutor) {
+			tokenExecutor.shutdownNow();
+		}
+		tokenExecutor = null;
+		synchronized (tokenLock) {
+			token = null;
+			tokenRefresh = null;
+		}
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		if (StringUtils.isNotNullOrEmpty(token)) {
+			headers.setBearerAuth(token);
+		}
+		if (HttpMethod.GET.equals(httpMethod)) {
+			for (CommandState state : commandStates.values()) {
+				if (state.getCommand().getUri().equals(uri) && StringUtils.isNotNullOrEmpty(state.getEtag())) {
+					headers.setIfNoneMatch(state.getEtag());
+				}
+			}
+		}
+		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	}
+
+	/**
+	 * Check API token validation
+	 * A missing or expired token is renewed before the cycle goes on, a token close to expiry is renewed in the background
+	 *
+	 * @return boolean
+	 */
+	private boolean checkValidApiToken() throws Exception {
+		if (StringUtils.isNullOrEmpty(getLogin()) || StringUtils.isNullOrEmpty(getPassword())) {
+			return false;
+		}
+		String currentToken = token;
+		long elapsed = System.currentTimeMillis() - tokenExpire;
+		if (StringUtils.isNullOrEmpty(currentToken) || elapsed >= expiresIn) {
+			currentToken = awaitToken(currentToken);
+		} else if (elapsed >= expiresIn * LogitechConstant.TOKEN_REFRESH_RATIO) {
+			requestToken(currentToken);
+		}
+		return StringUtils.isNotNullOrEmpty(currentToken);
+	}
+
+	/**
+	 * Waits for a token replacing the given one, sharing the in-flight sign-in if there is one
+	 *
+	 * @param staleToken the token known to be missing, expired or rejected
+	 * @return the new token
+	 * @throws FailedLoginException if login fail
+	 */
+	private String awaitToken(String staleToken) throws Exception {
+		try {
+			return requestToken(staleToken).get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Starts a sign-in replacing the given token, unless one is already in flight or the token was already replaced
+	 *
+	 * @param staleToken the token to replace
+	 * @return the pending or completed sign-in
+	 */
+	private CompletableFuture<String> requestToken(String staleToken) {
+		synchronized (tokenLock) {
+			String currentToken = token;
+			if (StringUtils.isNotNullOrEmpty(currentToken) && !currentToken.equals(staleToken)) {
+				return CompletableFuture.completedFuture(currentToken);
+			}
+			if (tokenRefresh == null || tokenRefresh.isDone()) {
+				tokenRefresh = new CompletableFuture<>();
+				CompletableFuture<String> refresh = tokenRefresh;
+				Runnable signIn = () -> {
+					try {
+						refresh.complete(getTokenAPI());
+					} catch (Exception e) {
+						logger.error("Error while refreshing the token", e);
+						refresh.completeExceptionally(e);
+					}
+				};
+				if (tokenExecutor != null) {
+					tokenExecutor.execute(signIn);
+				} else {
+					signIn.run();
+				}
+			}
+			return tokenRefresh;
+		}
+	}
+
+	/**
+	 * Get token api from the device
+	 *
+	 * @throws FailedLoginException if login fail
+	 */
+	private String getTokenAPI() throws FailedLoginException {
+		try {
+			Map<String, String> payload = new HashMap<>();
+			payload.put(LogitechConstant.USERNAME, this.getLogin());
+			payload.put(LogitechConstant.PASSWORD, this.getPassword());
+			JsonNode response = doPost("api/v1/signin", objectMapper.writeValueAsString(payload), JsonNode.class);
+			if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && !response.get(LogitechConstant.RESULT).isEmpty()) {
+				JsonNode result = response.get(LogitechConstant.RESULT);
+				JsonNode lifetime = result.get(LogitechConstant.EXPIRES_IN);
+				expiresIn = lifetime != null && lifetime.asLong() > 0 ? lifetime.asLong() * 1000 : LogitechConstant.DEFAULT_TOKEN_LIFETIME;
+				tokenExpire = System.currentTimeMillis();
+				token = result.get(LogitechConstant.AUTH_TOKEN).asText();
+				tokenRefreshCount.incrementAndGet();
+				snapshotDirty = true;
+				return token;
+			}
+			throw new FailedLoginException("Error while get token");
+		} catch (Exception e) {
+			throw new FailedLoginException("Login fail. Please check the credentials");
+		}
+	}
+
+	/**
+	 * Sends the given {@link LogitechCommand} requests in parallel on {@link #fetchExecutor} and waits for every one of them,
+	 * so the cycle takes as long as the slowest request instead of the sum of all of them.
+	 *
+	 * @param commands the commands to send
+	 */
+	private void retrieveDataConcurrently(List<LogitechCommand> commands) throws InterruptedException {
+		List<Future<?>> futures = new ArrayList<>(commands.size());
+		for (LogitechCommand command : commands) {
+			futures.add(fetchExecutor.submit(() -> retrieveData(command)));
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				logger.error("Error while retrieving data concurrently from device", e.getCause());
+			} catch (InterruptedException e) {
+				futures.forEach(pending -> pending.cancel(true));
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the data of a single command into its {@link CommandState}
+	 *
+	 * @param command the command to send
+	 */
+	private void retrieveData(LogitechCommand command) {
+		attemptedMonitor.incrementAndGet();
+		CommandState state = commandStates.get(command);
+		CircuitBreaker breaker = state.getBreaker();
+		try {
+			byte[] body = fetchCommand(command);
+			CommandOutcome outcome = CommandOutcome.UNCHANGED;
+			if (body != null) {
+				Map<String, String> data = state.obtainDataBuffer();
+				long parseStart = adapterMetrics ? System.nanoTime() : 0;
+				boolean decoded = decode(command, body, data, streamingDecode);
+				if (adapterMetrics) {
+					state.getMetrics().recordParse(System.nanoTime() - parseStart);
+				}
+				if (decoded) {
+					updateCommandData(command, data);
+					outcome = CommandOutcome.SUCCESS;
+				} else {
+					outcome = CommandOutcome.REJECTED;
+				}
+			}
+			if (circuitBreaker) {
+				breaker.recordSuccess();
+			}
+			if (adapterMetrics) {
+				state.getMetrics().recordOutcome(outcome);
+			}
+			if (occupancyStatistics && command == LogitechCommand.INSIGHTS_ROOM && outcome != CommandOutcome.REJECTED) {
+				recordOccupancy(state.getData(), System.currentTimeMillis());
+			}
+			if (transitionHistory && command == LogitechCommand.INSIGHTS_DEVICE && outcome == CommandOutcome.SUCCESS) {
+				recordTransitions(state.getData(), System.currentTimeMillis());
+			}
+		} catch (Exception e) {
+			failedMonitor.incrementAndGet();
+			if (adapterMetrics) {
+				state.getMetrics().recordOutcome(CommandOutcome.FAILED);
+			}
+			if (!circuitBreaker) {
+				logger.error(String.format("Error while retrieving %s data from device", command.getUri()), e);
+				return;
+			}
+			boolean opened = breaker.recordFailure(System.currentTimeMillis());
+			if (breaker.getConsecutiveFailures() == 1) {
+				logger.error(String.format("Error while retrieving %s data from device", command.getUri()), e);
+			} else {
+				logger.error(String.format("Error while retrieving %s data from device, %s consecutive failures: %s", command.getUri(), breaker.getConsecutiveFailures(), e.getMessage()));
+			}
+			if (opened && logger.isWarnEnabled()) {
+				logger.warn(String.format("Circuit breaker of %s opened, next attempt in %s ms", command.getUri(), breaker.getRetryTime() - System.currentTimeMillis()));
+			}
+		}
+	}
+
+	/**
+	 * Decodes a response with the tree or the streaming decoder
+	 *
+	 * @param command the command the response belongs to
+	 * @param body the raw response body
+	 * @param data the map to populate
+	 * @param streaming true to decode with {@link #decodeStreaming(LogitechCommand, byte[], Map)},
+	 * false with {@link #decodeTree(LogitechCommand, byte[], Map)}
+	 * @return true if the device answered with code 200 and a result
+	 * @throws Exception if the body cannot be parsed
+	 */
+	boolean decode(LogitechCommand command, byte[] body, Map<String, String> data, boolean streaming) throws Exception {
+		return streaming ? decodeStreaming(command, body, data) : decodeTree(command, body, data);
+	}
+
+	/**
+	 * Decodes a response by building the full {@link JsonNode} tree
+	 *
+	 * @param command the command the response belongs to
+	 * @param body the raw response body
+	 * @param data the map to populate
+	 * @return true if the device answered with code 200 and a result
+	 * @throws Exception if the body cannot be parsed
+	 */
+	private boolean decodeTree(LogitechCommand command, byte[] body, Map<String, String> data) throws Exception {
+		JsonNode response = objectMapper.readTree(body);
+		if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && response.has(LogitechConstant.RESULT)) {
+			JsonNode results = response.get(LogitechConstant.RESULT);
+			switch (command) {
+				case DEVICE_INFO:
+					retrieveDeviceInfo(results, data);
+					break;
+				case INSIGHTS_ROOM:
+					retrieveRoomSightsData(results, data);
+					break;
+				case INSIGHTS_DEVICE:
+					retrieveDeviceSightsData(results, data);
+					break;
+				case PERIPHERALS_INFO:
+					populatePeripheralData(data, results);
+					break;
+				default:
+					break;
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieve monitoring data of the device
+	 *
+	 * @param results the result node of the device info response
+	 * @param data the map to populate
+	 */
+	private void retrieveDeviceInfo(JsonNode results, Map<String, String> data) {
+		for (DeviceInfo item : DeviceInfo.values()) {
+			data.put(item.getPropertyName(), checkNullOrEmptyValue(results.get(item.getName())));
+		}
+	}
+
+	/**
+	 * Retrieves room sights data from the device.
+	 *
+	 * @param results the result node of the room insights response
+	 * @param data the map to populate
+	 */
+	private void retrieveRoomSightsData(JsonNode results, Map<String, String> data) {
+		if (results.has(LogitechConstant.OCCUPANCY_COUNT)) {
+			data.put(InsightInfo.OCCUPANCY_COUNT.getPropertyName(), getDefaultValueForNullData(results.get(LogitechConstant.OCCUPANCY_COUNT).asText()));
+		}
+
+		if (results.has(LogitechConstant.OCCUPANCY_MODE)) {
+			data.put(InsightInfo.OCCUPANCY_MODE.getPropertyName(), getDefaultValueForNullData(results.get(LogitechConstant.OCCUPANCY_MODE).asText()));
+		}
+	}
+
+	/**
+	 * Retrieves device sights data from the device.
+	 *
+	 * @param results the result node of the device insights response
+	 * @param data the map to populate
+	 */
+	private void retrieveDeviceSightsData(JsonNode results, Map<String, String> data) {
+		for (InsightInfo item : InsightInfo.values()) {
+			if ("RoomInsights".equalsIgnoreCase(item.getGroup())) {
+				continue;
+			}
+			String propertyName = item.getName();
+			if (results.has(propertyName)) {
+				data.put(item.getPropertyName(), getDefaultValueForNullData(results.get(propertyName).asText()));
+			}
+		}
+	}
+
+	/**
+	 * Decodes a response from the {@link JsonParser} token stream, reading only the fields listed in {@link DeviceInfo},
+	 * {@link InsightInfo} and the peripheral metrics and skipping everything else without building a tree.
+	 * The output is the same as {@link #decodeTree(LogitechCommand, byte[], Map)}.
+	 *
+	 * @param command the command the response belongs to
+	 * @param body the raw response body
+	 * @param data the map to populate
+	 * @return true if the device answered with code 200 and a result
+	 * @throws IOException if the body cannot be parsed or has no code
+	 */
+	private boolean decodeStreaming(LogitechCommand command, byte[] body, Map<String, String> data) throws IOException {
+		boolean hasCode = false;
+		boolean success = false;
+		boolean hasResult = false;
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("Response is not a JSON object");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+				if (LogitechConstant.CODE.equals(field)) {
+					hasCode = true;
+					success = token.isNumeric() && 200 == parser.getNumberValue().intValue();
+					parser.skipChildren();
+				} else if (LogitechConstant.RESULT.equals(field)) {
+					hasResult = true;
+					data.clear();
+					if (token == JsonToken.START_OBJECT) {
+						streamResult(command, parser, data);
+					} else {
+						parser.skipChildren();
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		if (!hasCode) {
+			throw new IOException("Response has no code");
+		}
+		if (!success || !hasResult) {
+			return false;
+		}
+		if (command == LogitechCommand.DEVICE_INFO) {
+			for (DeviceInfo item : DeviceInfo.values()) {
+				data.putIfAbsent(item.getPropertyName(), LogitechConstant.NONE);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the fields of a result object, the parser is positioned on its START_OBJECT token
+	 *
+	 * @param command the command the response belongs to
+	 * @param parser the parser
+	 * @param data the map to populate
+	 * @throws IOException if the body cannot be parsed
+	 */
+	private void streamResult(LogitechCommand command, JsonParser parser, Map<String, String> data) throws IOException {
+		if (command == LogitechCommand.PERIPHERALS_INFO) {
+			streamPeripheralData(parser, data);
+			return;
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			parser.nextToken();
+			String propertyName;
+			switch (command) {
+				case DEVICE_INFO:
+					propertyName = DEVICE_INFO_FIELDS.get(field);
+					break;
+				case INSIGHTS_ROOM:
+					propertyName = ROOM_INSIGHT_FIELDS.get(field);
+					break;
+				case INSIGHTS_DEVICE:
+					propertyName = DEVICE_INSIGHT_FIELDS.get(field);
+					break;
+				default:
+					propertyName = null;
+					break;
+			}
+			if (propertyName == null) {
+				parser.skipChildren();
+				continue;
+			}
+			data.put(propertyName, getDefaultValueForNullData(readText(parser)));
+		}
+	}
 
 	/**
-	 * A mapper for reading and writing JSON using Jackson library.
-	 * ObjectMapper provides functionality for converting between Java objects and JSON.
-	 * It can be used to serialize objects to JSON format, and deserialize JSON data to objects.
+	 * Reads the peripheral arrays of a peripherals result object, the parser is positioned on its START_OBJECT token.
+	 * Only the metric fields of each item are kept, the items are emitted once their array is complete
+	 * because the property group depends on the number of items.
+	 *
+	 * @param parser the parser
+	 * @param stats the map to populate
+	 * @throws IOException if the body cannot be parsed
 	 */
-	private ObjectMapper objectMapper = new ObjectMapper();
+	private void streamPeripheralData(JsonParser parser, Map<String, String> stats) throws IOException {
+		PeripheralType[] types = PeripheralType.values();
+		Map<PeripheralType, List<String[]>> peripherals = new EnumMap<>(PeripheralType.class);
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			PeripheralType type = PERIPHERAL_FIELDS.get(parser.getCurrentName());
+			JsonToken token = parser.nextToken();
+			if (type == null || !groupFilter.isEnabled(type)) {
+				parser.skipChildren();
+				continue;
+			}
+			if (token != JsonToken.START_ARRAY) {
+				peripherals.remove(type);
+				parser.skipChildren();
+				continue;
+			}
+			List<String[]> items = new ArrayList<>();
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				String[] values = new String[type.getMetricCount()];
+				if (parser.currentToken() == JsonToken.START_OBJECT) {
+					while (parser.nextToken() == JsonToken.FIELD_NAME) {
+						int index = type.getMetricIndex(parser.getCurrentName());
+						parser.nextToken();
+						if (index < 0) {
+							parser.skipChildren();
+						} else {
+							values[index] = readText(parser);
+						}
+					}
+				} else {
+					parser.skipChildren();
+				}
+				items.add(values);
+			}
+			peripherals.put(type, items);
+		}
+		if (stablePeripheralSlots) {
+			for (PeripheralType type : types) {
+				List<String[]> items = peripherals.get(type);
+				if (items != null) {
+					for (String[] values : items) {
+						for (int i = 0; i < values.length; i++) {
+							values[i] = capitalizeFirstLetter(values[i]);
+						}
+					}
+				}
+				indexPeripherals(type, items);
+			}
+			stats.putAll(peripheralIndex.getProperties());
+			return;
+		}
+		for (PeripheralType type : types) {
+			List<String[]> items = peripherals.get(type);
+			if (items == null) {
+				continue;
+			}
+			for (int index = 1; index <= items.size(); index++) {
+				int item = items.size() == 1 ? 0 : index;
+				String[] values = items.get(index - 1);
+				for (int i = 0; i < values.length; i++) {
+					if (values[i] != null) {
+						stats.put(type.getPropertyKey(item, i), capitalizeFirstLetter(values[i]));
+					}
+				}
+			}
+		}
+	}
 
 	/**
-	 * store token api to get monitoring and controlling data
+	 * Reads the current value the same way {@link JsonNode#asText()} renders it, containers are skipped and read as empty text
+	 *
+	 * @param parser the parser positioned on a value token
+	 * @return text of the value
+	 * @throws IOException if the body cannot be parsed
 	 */
-	private String token;
+	private static String readText(JsonParser parser) throws IOException {
+		switch (parser.currentToken()) {
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_NUMBER_INT:
+				return parser.getNumberValue().toString();
+			case VALUE_NUMBER_FLOAT:
+				return String.valueOf(parser.getDoubleValue());
+			case VALUE_TRUE:
+				return "true";
+			case VALUE_FALSE:
+				return "false";
+			case VALUE_NULL:
+				return "null";
+			default:
+				parser.skipChildren();
+				return "";
+		}
+	}
 
 	/**
-	 * save time get token
+	 * Sends a command and fingerprints the raw body, If-None-Match is added by {@link #putExtraRequestHeaders} when the device provided an ETag,
+	 * so an unchanged response is neither parsed again nor turned into statistics again.
+	 *
+	 * @param command the command to send
+	 * @return the raw response body, or null if the response did not change since the last good result
+	 * @throws Exception if the request fails
 	 */
-	private Long tokenExpire;
+	private byte[] fetchCommand(LogitechCommand command) throws Exception {
+		CommandState state = commandStates.get(command);
+		ResponseEntity<byte[]> response;
+		long requestStart = System.nanoTime();
+		try {
+			response = requestCommand(command);
+		} catch (NotModifiedException e) {
+			long roundTrip = System.nanoTime() - requestStart;
+			state.recordRoundTrip(roundTrip, System.currentTimeMillis());
+			if (adapterMetrics) {
+				state.getMetrics().recordResponse(roundTrip, 0);
+			}
+			state.markUnchanged(state.getEtag(), System.currentTimeMillis());
+			return null;
+		}
+		long roundTrip = System.nanoTime() - requestStart;
+		state.recordRoundTrip(roundTrip, System.currentTimeMillis());
+		byte[] body = response.getBody();
+		if (adapterMetrics) {
+			state.getMetrics().recordResponse(roundTrip, body == null ? 0 : body.length);
+		}
+		if (body == null) {
+			return null;
+		}
+		byte[] fingerprint = fingerprint(body);
+		String etag = response.getHeaders().getETag();
+		if (state.matches(fingerprint)) {
+			state.markUnchanged(etag, System.currentTimeMillis());
+			return null;
+		}
+		state.stage(fingerprint, etag);
+		return body;
+	}
 
 	/**
-	 * time the token expires
+	 * Sends the GET request of a command. A 401 signs in again and retries once.
+	 *
+	 * @param command the command to send
+	 * @return the response of the device
 	 */
-	private Long expiresIn = 12 * 3600L * 1000;
+	private ResponseEntity<byte[]> requestCommand(LogitechCommand command) throws Exception {
+		String requestToken = token;
+		ResponseEntity<byte[]> response = doRequest(command.getUri(), HttpMethod.GET, new HttpHeaders(), null, byte[].class);
+		if (response.getStatusCode() != HttpStatus.UNAUTHORIZED) {
+			return response;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Token rejected on %s, signing in again", command.getUri()));
+		}
+		awaitToken(requestToken);
+		response = doRequest(command.getUri(), HttpMethod.GET, new HttpHeaders(), null, byte[].class);
+		if (response.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+			throw new FailedLoginException(String.format("Token rejected on %s", command.getUri()));
+		}
+		return response;
+	}
 
 	/**
-	 * failed monitor
+	 * Computes the fingerprint of a raw response body
+	 *
+	 * @param body the raw response body
+	 * @return MD5 digest of the body
 	 */
-	private int failedMonitor = 0;
+	private static byte[] fingerprint(byte[] body) throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance("MD5").digest(body);
+	}
 
 	/**
-	 * cached data
+	 * Stores the retrieved data as the last good result of the command
+	 *
+	 * @param command the command the data belongs to
+	 * @param data the retrieved data
 	 */
-	private Map<String, String> cachedData = new HashMap<>();
+	private void updateCommandData(LogitechCommand command, Map<String, String> data) {
+		commandStates.get(command).update(data, System.currentTimeMillis());
+		snapshotDirty = true;
+	}
 
 	/**
-	 * ping mode
+	 * Retrieves the state of a command
+	 *
+	 * @param command the command
+	 * @return state of the command
 	 */
-	private PingMode pingMode = PingMode.ICMP;
+	CommandState getCommandState(LogitechCommand command) {
+		return commandStates.get(command);
+	}
 
 	/**
-	 * Retrieves {@link #pingMode}
+	 * Retrieves {@link #occupancySeries}
 	 *
-	 * @return value of {@link #pingMode}
+	 * @return occupancy samples of the room
 	 */
-	public String getPingMode() {
-		return pingMode.name();
+	OccupancySeries getOccupancySeries() {
+		return occupancySeries;
 	}
 
 	/**
-	 * Sets {@link #pingMode} value
+	 * Retrieves {@link #transitionLog}
 	 *
-	 * @param pingMode new value of {@link #pingMode}
+	 * @return changes of the tracked device insights
 	 */
-	public void setPingMode(String pingMode) {
-		this.pingMode = PingMode.ofString(pingMode);
+	TransitionLog getTransitionLog() {
+		return transitionLog;
 	}
 
 	/**
-	 * Constructor instance
+	 * Retrieves {@link #peripheralIndex}
+	 *
+	 * @return slots of the peripherals
 	 */
-	public LogitechCollabOsCommunicator() {
-		this.setTrustAllCertificates(true);
+	PeripheralIndex getPeripheralIndex() {
+		return peripheralIndex;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * This method is recalled by Symphony to get the list of statistics to be displayed
+	 * Retrieves {@link #snapshotStore}
 	 *
-	 * @return List<Statistics> This return the list of statistics.
+	 * @return snapshot file of the device, null if snapshots are disabled
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		checkValidApiToken();
-		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-		Map<String, String> stats = new HashMap<>();
-		cachedData.clear();
-		failedMonitor = 0;
-		retrieveDeviceInfo();
-		retrievePeripheralsData();
-		retrieveDeviceSightsData();
-		retrieveRoomSightsData();
-		if (failedMonitor == LogitechCommand.values().length) {
-			throw new ResourceNotReachableException("Failed all command. Please double-check the requests");
-		}
-		populateDeviceInfo(stats);
-		populateInsightData(stats);
-		populatePeripheralData(stats);
-		extendedStatistics.setStatistics(stats);
+	SnapshotStore getSnapshotStore() {
+		return snapshotStore;
+	}
 
-		localExtendedStatistics = extendedStatistics;
+	/**
+	 * Retrieves {@link #delta}
+	 *
+	 * @return statistics kept across cycles in delta mode
+	 */
+	DeltaStatistics getDeltaStatistics() {
+		return delta;
+	}
 
-		return Collections.singletonList(localExtendedStatistics);
+	/**
+	 * Retrieves the polling interval of a command
+	 *
+	 * @param command the command
+	 * @return polling interval in seconds
+	 */
+	private long getPollingInterval(LogitechCommand command) {
+		return commandStates.get(command).getPollingInterval() / 1000;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets the polling interval of a command
+	 *
+	 * @param command the command
+	 * @param pollingInterval polling interval in seconds, 0 to refresh on every cycle
 	 */
-	@Override
-	protected void authenticate() throws Exception {
-		// The device no require authenticate
+	private void setPollingInterval(LogitechCommand command, long pollingInterval) {
+		commandStates.get(command).setPollingInterval(pollingInterval * 1000);
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Populates the statistics of a single command into the given stats map.
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param command The command the data belongs to.
+	 * @param data The last good result of the command.
+	 * @param stats The map to populate.
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (this.pingMode == PingMode.ICMP) {
-			return super.ping();
-		} else if (this.pingMode == PingMode.TCP) {
-			if (isInitialized()) {
-				long pingResultTotal = 0L;
+	private void populateCommandStats(LogitechCommand command, Map<String, String> data, Map<String, String> stats) {
+		switch (command) {
+			case DEVICE_INFO:
+				populateDeviceInfo(stats, data);
+				break;
+			case INSIGHTS_ROOM:
+				populateInsightData(stats, data, "RoomInsights");
+				break;
+			case INSIGHTS_DEVICE:
+				populateInsightData(stats, data, "DeviceInsights");
+				break;
+			case PERIPHERALS_INFO:
+				stats.putAll(data);
+				break;
+			default:
+				break;
+		}
+	}
 
-				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-						puSocketConnection.setSoTimeout(this.getPingTimeout());
-						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
-							pingResultTotal += pingResult;
-							if (this.logger.isTraceEnabled()) {
-								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-							}
-						} else {
-							if (this.logger.isDebugEnabled()) {
-								this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-							}
-							return this.getPingTimeout();
-						}
-					} catch (SocketTimeoutException | ConnectException tex) {
-						throw new RuntimeException("Socket connection timed out", tex);
-					} catch (UnknownHostException ex) {
-						throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
-					} catch (Exception e) {
-						if (this.logger.isWarnEnabled()) {
-							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-						}
-						return this.getPingTimeout();
-					}
-				}
-				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-			} else {
-				throw new IllegalStateException("Cannot use device class without calling init() first");
+	/**
+	 * Populates the cycle time, token refresh count and the latency, response size, parse time and outcomes of every command
+	 * into the AdapterMetrics group. Durations are the p50, p95 and max over the last {@link #adapterMetricsWindow} samples.
+	 *
+	 * @param stats The map to populate.
+	 */
+	private void populateAdapterMetrics(Map<String, String> stats) {
+		stats.put(LogitechConstant.ADAPTER_METRICS + "LastCycleTime(ms)", formatMillis(cycleTime.getLast()));
+		populateRollingWindow(stats, CYCLE_TIME_KEYS, cycleTime);
+		stats.put(LogitechConstant.ADAPTER_METRICS + "TokenRefreshes", String.valueOf(tokenRefreshCount.get()));
+		connectionMetrics.snapshot(connections);
+		for (int i = 0; i < ConnectionMetrics.COUNTERS; i++) {
+			stats.put(CONNECTION_COUNTER_KEYS[i][0], String.valueOf(connections[i]));
+			stats.put(CONNECTION_COUNTER_KEYS[i][1], String.valueOf(lastCycleConnections[i]));
+		}
+		for (CommandState state : commandStates.values()) {
+			if (!groupFilter.isEnabled(state.getCommand())) {
+				continue;
+			}
+			int command = state.getCommand().ordinal();
+			String[] keys = COMMAND_METRIC_KEYS[command];
+			CommandMetrics metrics = state.getMetrics();
+			populateRollingWindow(stats, LATENCY_KEYS[command], metrics.getLatency());
+			populateRollingWindow(stats, PARSE_TIME_KEYS[command], metrics.getParseTime());
+			stats.put(keys[0], String.valueOf(metrics.getResponseBytes()));
+			CommandOutcome lastOutcome = metrics.getLastOutcome();
+			stats.put(keys[1], lastOutcome == null ? LogitechConstant.NONE : lastOutcome.getName());
+			for (CommandOutcome outcome : CommandOutcome.values()) {
+				stats.put(keys[2 + outcome.ordinal()], String.valueOf(metrics.getOutcomeCount(outcome)));
 			}
-		} else {
-			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the min, max, average, jitter and loss of the last probes of the DUAL ping mode
+	 *
+	 * @param stats The map to populate.
+	 * @param keys The properties of the probe, built by {@link #probeKeys(String)}.
+	 * @param samples The last probes.
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
+	private void populateProbeSamples(Map<String, String> stats, String[] keys, ProbeSamples samples) {
+		if (samples.getCount() == 0) {
+			return;
 		}
-		super.internalInit();
+		if (samples.summarize(summary)) {
+			stats.put(keys[ProbeSamples.MIN], formatMillis(summary[ProbeSamples.MIN]));
+			stats.put(keys[ProbeSamples.MAX], formatMillis(summary[ProbeSamples.MAX]));
+			stats.put(keys[ProbeSamples.AVERAGE], formatMillis(summary[ProbeSamples.AVERAGE]));
+			stats.put(keys[ProbeSamples.JITTER], formatMillis(summary[ProbeSamples.JITTER]));
+		}
+		stats.put(keys[ProbeSamples.JITTER + 1], String.format(Locale.US, "%.1f", samples.getLossPercentage()));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Records the duration of a cycle and the connection activity since it started
+	 *
+	 * @param cycleStart start of the cycle from {@link System#nanoTime()}
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics.getStatistics().clear();
-			localExtendedStatistics.getControllableProperties().clear();
-		}
-		if (!cachedData.isEmpty()) {
-			cachedData.clear();
+	private void recordCycle(long cycleStart) {
+		cycleTime.record(System.nanoTime() - cycleStart);
+		connectionMetrics.snapshot(lastCycleConnections);
+		for (int i = 0; i < ConnectionMetrics.COUNTERS; i++) {
+			lastCycleConnections[i] -= cycleStartConnections[i];
 		}
-		super.internalDestroy();
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Populates the p50, p95 and max of a window of durations in milliseconds
+	 *
+	 * @param stats The map to populate.
+	 * @param keys The properties of the measurement, built by {@link #rollingWindowKeys(String)}.
+	 * @param window The window of durations in nanoseconds.
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		if (StringUtils.isNotNullOrEmpty(token)) {
-			headers.setBearerAuth(token);
+	private void populateRollingWindow(Map<String, String> stats, String[] keys, RollingWindow window) {
+		if (!window.summarize(summary)) {
+			return;
 		}
-		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+		stats.put(keys[RollingWindow.P50], formatMillis(summary[RollingWindow.P50]));
+		stats.put(keys[RollingWindow.P95], formatMillis(summary[RollingWindow.P95]));
+		stats.put(keys[RollingWindow.MAX], formatMillis(summary[RollingWindow.MAX]));
 	}
 
 	/**
-	 * Check API token validation
-	 * If the token expires, we send a request to get a new token
+	 * Records the occupancy count of the last good room insights result, unless the device did not report a number
 	 *
-	 * @return boolean
+	 * @param data The last good room insights result.
+	 * @param now The time of the retrieval.
 	 */
-	private boolean checkValidApiToken() throws Exception {
-		if (StringUtils.isNullOrEmpty(getLogin()) || StringUtils.isNullOrEmpty(getPassword())) {
-			return false;
+	private void recordOccupancy(Map<String, String> data, long now) {
+		String count = data.get(InsightInfo.OCCUPANCY_COUNT.getPropertyName());
+		if (count == null) {
+			return;
 		}
-		if (StringUtils.isNullOrEmpty(token) || System.currentTimeMillis() - tokenExpire >= expiresIn) {
-			token = getTokenAPI();
+		try {
+			occupancySeries.record(now, Integer.parseInt(count));
+		} catch (NumberFormatException e) {
+			logger.debug(String.format("Occupancy count %s is not a number", count));
 		}
-		return StringUtils.isNotNullOrEmpty(token);
 	}
 
 	/**
-	 * Get token api from the device
+	 * Populates the min, max and average occupancy and the share of occupied samples of every occupancy window
 	 *
-	 * @throws FailedLoginException if login fail
+	 * @param stats The map to populate.
+	 * @param now The current time.
 	 */
-	private String getTokenAPI() throws FailedLoginException {
-		try {
-			Map<String, String> payload = new HashMap<>();
-			payload.put(LogitechConstant.USERNAME, this.getLogin());
-			payload.put(LogitechConstant.PASSWORD, this.getPassword());
-			JsonNode response = doPost("api/v1/signin", objectMapper.writeValueAsString(payload), JsonNode.class);
-			if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && !response.get(LogitechConstant.RESULT).isEmpty()) {
-				tokenExpire = System.currentTimeMillis();
-				return response.get(LogitechConstant.RESULT).get("auth_token").asText();
+	private void populateOccupancy(Map<String, String> stats, long now) {
+		for (int i = 0; i < OCCUPANCY_KEYS.length; i++) {
+			if (!occupancySeries.summarize(i, now, occupancySummary)) {
+				continue;
 			}
-			throw new FailedLoginException("Error while get token");
-		} catch (Exception e) {
-			throw new FailedLoginException("Login fail. Please check the credentials");
+			String[] keys = OCCUPANCY_KEYS[i];
+			stats.put(keys[OccupancySeries.MIN], String.valueOf((int) occupancySummary[OccupancySeries.MIN]));
+			stats.put(keys[OccupancySeries.MAX], String.valueOf((int) occupancySummary[OccupancySeries.MAX]));
+			stats.put(keys[OccupancySeries.AVERAGE], String.format(Locale.US, "%.2f", occupancySummary[OccupancySeries.AVERAGE]));
+			stats.put(keys[OccupancySeries.OCCUPIED], String.format(Locale.US, "%.1f", occupancySummary[OccupancySeries.OCCUPIED]));
 		}
 	}
 
 	/**
-	 * Retrieve monitoring data of the device
+	 * Loads the snapshot of the device: the last good results are restored and refreshed in the first cycle,
+	 * the token is reused if it did not expire, and the statistics are served, marked stale, until the first refresh completes
 	 */
-	private void retrieveDeviceInfo() {
+	private void loadSnapshot() {
+		Snapshot snapshot;
 		try {
-			JsonNode response = doGet(LogitechCommand.DEVICE_INFO.getUri(), JsonNode.class);
-			if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && response.has(LogitechConstant.RESULT)) {
-				JsonNode results = response.get(LogitechConstant.RESULT);
-				for (DeviceInfo item : DeviceInfo.values()) {
-					cachedData.put(capitalizeFirstLetter(item.getName()), checkNullOrEmptyValue(results.get(item.getName())));
-				}
+			snapshot = snapshotStore.read();
+		} catch (IOException e) {
+			logger.warn(String.format("Ignoring the snapshot of %s: %s", host, e.getMessage()));
+			return;
+		}
+		if (snapshot == null) {
+			return;
+		}
+		snapshot.getData().forEach((command, data) -> commandStates.get(command).restore(data));
+		if (StringUtils.isNotNullOrEmpty(snapshot.getToken()) && System.currentTimeMillis() - snapshot.getTokenTime() < snapshot.getTokenLifetime()) {
+			synchronized (tokenLock) {
+				token = snapshot.getToken();
+				tokenExpire = snapshot.getTokenTime();
+				expiresIn = snapshot.getTokenLifetime();
 			}
-		} catch (Exception e) {
-			failedMonitor++;
-			logger.error("Error while retrieving device info data from device", e);
 		}
+		Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+		stats.put(LogitechConstant.SNAPSHOT_STALE, "true");
+		stats.put(LogitechConstant.SNAPSHOT_SAVED_AT, Instant.ofEpochMilli(snapshot.getSavedAt()).toString());
+		ExtendedStatistics warm = new ExtendedStatistics();
+		warm.setStatistics(stats);
+		localExtendedStatistics = warm;
+		warmStatistics = warm;
 	}
 
 	/**
-	 * Retrieves room sights data from the device.
+	 * Derives the activity of the room from the latest insights and adapts the polling intervals of {@link #ADAPTIVE_COMMANDS}
+	 * for the next cycles.
+	 * While the room is in use, their configured intervals are capped at {@link #activePollingInterval}; while it is vacant,
+	 * they are raised to at least {@link #idlePollingInterval}; when its activity is unknown, the configured intervals apply.
 	 */
-	private void retrieveRoomSightsData() {
-		try {
-			JsonNode response = doGet(LogitechCommand.INSIGHTS_ROOM.getUri(), JsonNode.class);
-			if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && response.has(LogitechConstant.RESULT)) {
-				JsonNode results = response.get(LogitechConstant.RESULT);
-				if (results.has(LogitechConstant.OCCUPANCY_COUNT)) {
-					cachedData.put(capitalizeFirstLetter(LogitechConstant.OCCUPANCY_COUNT), getDefaultValueForNullData(results.get(LogitechConstant.OCCUPANCY_COUNT).asText()));
-				}
-
-				if (results.has(LogitechConstant.OCCUPANCY_MODE)) {
-					cachedData.put(capitalizeFirstLetter(LogitechConstant.OCCUPANCY_MODE), getDefaultValueForNullData(results.get(LogitechConstant.OCCUPANCY_MODE).asText()));
-				}
+	private void adaptPollingIntervals() {
+		Map<String, String> room = commandStates.get(LogitechCommand.INSIGHTS_ROOM).getData();
+		Map<String, String> device = commandStates.get(LogitechCommand.INSIGHTS_DEVICE).getData();
+		RoomActivity activity = RoomActivity.of(room.get(InsightInfo.OCCUPANCY_COUNT.getPropertyName()), room.get(InsightInfo.OCCUPANCY_MODE.getPropertyName()),
+				device.get(InsightInfo.DEVICE_STATUS.getPropertyName()));
+		if (activity != roomActivity && logger.isDebugEnabled()) {
+			logger.debug(String.format("Activity of the room of %s changed from %s to %s", host, roomActivity.getName(), activity.getName()));
+		}
+		roomActivity = activity;
+		for (LogitechCommand command : ADAPTIVE_COMMANDS) {
+			CommandState state = commandStates.get(command);
+			switch (activity) {
+				case ACTIVE:
+					state.setAdaptedPollingInterval(Math.min(state.getPollingInterval(), activePollingInterval * 1000));
+					break;
+				case VACANT:
+					state.setAdaptedPollingInterval(Math.max(state.getPollingInterval(), idlePollingInterval * 1000));
+					break;
+				default:
+					state.setAdaptedPollingInterval(-1);
+					break;
 			}
-		} catch (Exception e) {
-			failedMonitor++;
-			logger.error("Error while retrieving room insights data from device", e);
 		}
 	}
 
 	/**
-	 * Retrieves device sights data from the device.
+	 * Populates the activity of the room and the effective polling intervals of {@link #ADAPTIVE_COMMANDS}
+	 *
+	 * @param stats The map to populate.
+	 */
+	private void populateAdaptivePolling(Map<String, String> stats) {
+		stats.put(LogitechConstant.ROOM_ACTIVITY, roomActivity.getName());
+		for (int i = 0; i < ADAPTIVE_COMMANDS.length; i++) {
+			stats.put(ADAPTIVE_INTERVAL_KEYS[i], String.valueOf(commandStates.get(ADAPTIVE_COMMANDS[i]).getEffectivePollingInterval() / 1000));
+		}
+	}
+
+	/**
+	 * Saves the last good results, the token and the statistics to the snapshot file, if any of the results or the token
+	 * changed since the last write and at least {@link #snapshotInterval} elapsed
+	 *
+	 * @param statistics The statistics to save.
+	 * @param force Whether to write regardless of {@link #snapshotInterval}.
 	 */
-	private void retrieveDeviceSightsData() {
+	private void saveSnapshot(Map<String, String> statistics, boolean force) {
+		SnapshotStore store = snapshotStore;
+		long now = System.currentTimeMillis();
+		if (store == null || !snapshotDirty || !force && now - lastSnapshotTime < snapshotInterval * 1000) {
+			return;
+		}
+		Snapshot snapshot = new Snapshot();
+		snapshot.setSavedAt(now);
+		synchronized (tokenLock) {
+			snapshot.setToken(token);
+			snapshot.setTokenTime(tokenExpire);
+			snapshot.setTokenLifetime(expiresIn);
+		}
+		for (CommandState state : commandStates.values()) {
+			if (!state.getData().isEmpty()) {
+				snapshot.getData().put(state.getCommand(), state.getData());
+			}
+		}
+		snapshot.getStatistics().putAll(statistics);
+		snapshotDirty = false;
+		lastSnapshotTime = now;
 		try {
-			JsonNode response = doGet(LogitechCommand.INSIGHTS_DEVICE.getUri(), JsonNode.class);
-			if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && response.has(LogitechConstant.RESULT)) {
-				JsonNode results = response.get(LogitechConstant.RESULT);
-				for (InsightInfo item : InsightInfo.values()) {
-					if ("RoomInsights".equalsIgnoreCase(item.getGroup())) {
-						continue;
-					}
-					String propertyName = item.getName();
-					if (results.has(propertyName)) {
-						cachedData.put(capitalizeFirstLetter(propertyName), getDefaultValueForNullData(results.get(propertyName).asText()));
-					}
-				}
+			store.write(snapshot);
+		} catch (IOException e) {
+			snapshotDirty = true;
+			logger.warn(String.format("Error while saving the snapshot of %s: %s", host, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Records the tracked insights of the last good device insights result in the transition log
+	 *
+	 * @param data The last good device insights result.
+	 * @param now The time of the retrieval.
+	 */
+	private void recordTransitions(Map<String, String> data, long now) {
+		for (int i = 0; i < TRACKED_INSIGHTS.length; i++) {
+			String state = data.get(TRACKED_INSIGHTS[i].getPropertyName());
+			if (state != null) {
+				transitionLog.record(i, state, now);
 			}
-		} catch (Exception e) {
-			failedMonitor++;
-			logger.error("Error while retrieving device insights data from device", e);
 		}
 	}
 
 	/**
-	 * Retrieves room peripheral data from the device.
+	 * Populates the number of changes of every tracked insight and of mic mutes over the last day, and the most recent changes
+	 *
+	 * @param stats The map to populate.
+	 * @param now The current time.
 	 */
-	private void retrievePeripheralsData() {
-		try {
-			JsonNode response = doGet(LogitechCommand.PERIPHERALS_INFO.getUri(), JsonNode.class);
-			if (response != null && !response.get(LogitechConstant.CODE).isNull() && 200 == response.get(LogitechConstant.CODE).intValue() && response.has(LogitechConstant.RESULT)) {
-				JsonNode results = response.get(LogitechConstant.RESULT);
-				for (PeripheralType item : PeripheralType.values()) {
-					if (results.has(item.getValue())) {
-						cachedData.put(item.getName(), results.get(item.getValue()).toString());
-					}
-				}
+	private void populateTransitions(Map<String, String> stats, long now) {
+		long since = now - 24 * 3600000L;
+		for (int i = 0; i < TRACKED_INSIGHTS.length; i++) {
+			stats.put(TRANSITION_COUNT_KEYS[i], String.valueOf(transitionLog.count(i, null, since)));
+		}
+		stats.put(LogitechConstant.MIC_MUTE_COUNT, String.valueOf(transitionLog.count(TRACKED_MIC_STATE, LogitechConstant.MIC_MUTED, since)));
+		int size = transitionLog.copyRecent(recentTransitions);
+		if (size == 0) {
+			stats.put(LogitechConstant.RECENT_TRANSITIONS_PROPERTY, LogitechConstant.NONE);
+			return;
+		}
+		StringBuilder recent = new StringBuilder();
+		for (int i = 0; i < size; i++) {
+			long entry = recentTransitions[i];
+			if (i > 0) {
+				recent.append(", ");
 			}
-		} catch (Exception e) {
-			failedMonitor++;
-			logger.error("Error while retrieving peripherals data from device", e);
+			recent.append(Instant.ofEpochMilli(TransitionLog.getTime(entry))).append(' ')
+					.append(TRACKED_INSIGHTS[TransitionLog.getProperty(entry)].getPropertyName()).append(' ')
+					.append(transitionLog.getState(entry));
 		}
+		stats.put(LogitechConstant.RECENT_TRANSITIONS_PROPERTY, recent.toString());
+	}
+
+	/**
+	 * Builds the min, max, average and occupied properties of an occupancy window, indexed like its summary
+	 *
+	 * @param name The name of the window.
+	 * @return the properties
+	 */
+	private static String[] occupancyKeys(String name) {
+		String prefix = "RoomInsights#Occupancy" + name;
+		String[] keys = new String[4];
+		keys[OccupancySeries.MIN] = prefix + "Min";
+		keys[OccupancySeries.MAX] = prefix + "Max";
+		keys[OccupancySeries.AVERAGE] = prefix + "Average";
+		keys[OccupancySeries.OCCUPIED] = prefix + "Occupied(%)";
+		return keys;
+	}
+
+	/**
+	 * Builds the p50, p95 and max properties of a window of durations, indexed like its summary
+	 *
+	 * @param name The name of the measurement including its group.
+	 * @return the properties
+	 */
+	private static String[] rollingWindowKeys(String name) {
+		String[] keys = new String[3];
+		keys[RollingWindow.P50] = name + "P50(ms)";
+		keys[RollingWindow.P95] = name + "P95(ms)";
+		keys[RollingWindow.MAX] = name + "Max(ms)";
+		return keys;
+	}
+
+	/**
+	 * Builds the min, max, average and jitter properties of a probe, indexed like its summary, followed by its loss
+	 *
+	 * @param name The name of the probe.
+	 * @return the properties
+	 */
+	private static String[] probeKeys(String name) {
+		String prefix = LogitechConstant.PING_STATISTICS + name;
+		String[] keys = new String[5];
+		keys[ProbeSamples.MIN] = prefix + "Min(ms)";
+		keys[ProbeSamples.MAX] = prefix + "Max(ms)";
+		keys[ProbeSamples.AVERAGE] = prefix + "Average(ms)";
+		keys[ProbeSamples.JITTER] = prefix + "Jitter(ms)";
+		keys[ProbeSamples.JITTER + 1] = prefix + "Loss(%)";
+		return keys;
+	}
+
+	/**
+	 * Formats a duration in nanoseconds as milliseconds
+	 *
+	 * @param nanos duration in nanoseconds
+	 * @return milliseconds with 3 decimals
+	 */
+	private static String formatMillis(long nanos) {
+		return String.format(Locale.US, "%.3f", nanos / 1000000.0);
 	}
 
 	/**
 	 * Populates device info and room insight data into the given stats map.
 	 *
 	 * @param stats The map to populate with device and room insight data.
+	 * @param data The retrieved device info data.
 	 */
-	private void populateDeviceInfo(Map<String, String> stats) {
+	private void populateDeviceInfo(Map<String, String> stats, Map<String, String> data) {
 		for (DeviceInfo item : DeviceInfo.values()) {
-			String propertyName = capitalizeFirstLetter(item.getName());
-			stats.put(propertyName, getDefaultValueForNullData(cachedData.get(propertyName)));
+			stats.put(item.getPropertyName(), getDefaultValueForNullData(data.get(item.getPropertyName())));
 		}
 	}
 
@@ -389,33 +2875,55 @@ public class LogitechCollabOsCommunicator extends RestCommunicator implements Mo
 	 * Populates insight data into the given stats map.
 	 *
 	 * @param stats The map to populate with insight data.
+	 * @param data The retrieved insight data.
+	 * @param insightGroup The insight group to populate.
 	 */
-	private void populateInsightData(Map<String, String> stats) {
+	private void populateInsightData(Map<String, String> stats, Map<String, String> data, String insightGroup) {
 		for (InsightInfo item : InsightInfo.values()) {
-			String group = item.getGroup();
-			String name = item.getName();
-			if (cachedData.get(capitalizeFirstLetter(name)) != null) {
-				stats.put(group + "#" + capitalizeFirstLetter(name), getDefaultValueForNullData(cachedData.get(capitalizeFirstLetter(name))));
+			String value = data.get(item.getPropertyName());
+			if (insightGroup.equals(item.getGroup()) && value != null) {
+				stats.put(item.getKey(), getDefaultValueForNullData(value));
 			}
 		}
 	}
 
 	/**
-	 * Populates peripheral data into the given stats map.
+	 * Populates peripheral data into the given stats map straight from the retrieved tree.
 	 *
 	 * @param stats The map to populate with peripheral data.
+	 * @param results The result node of the peripherals response.
 	 */
-	private void populatePeripheralData(Map<String, String> stats) {
+	private void populatePeripheralData(Map<String, String> stats, JsonNode results) {
+		if (stablePeripheralSlots) {
+			for (PeripheralType type : PeripheralType.values()) {
+				// A type disabled by the group filter is indexed without items, so its slots are cleared as in decodeStreaming
+				JsonNode data = groupFilter.isEnabled(type) ? results.get(type.getValue()) : null;
+				List<String[]> items = null;
+				if (data != null && data.isArray()) {
+					items = new ArrayList<>(data.size());
+					for (JsonNode item : data) {
+						String[] values = new String[type.getMetricCount()];
+						for (int i = 0; i < values.length; i++) {
+							JsonNode value = item.get(type.getFieldName(i));
+							values[i] = value == null ? null : capitalizeFirstLetter(value.asText());
+						}
+						items.add(values);
+					}
+				}
+				indexPeripherals(type, items);
+			}
+			stats.putAll(peripheralIndex.getProperties());
+			return;
+		}
 		for (PeripheralType type : PeripheralType.values()) {
-			String name = type.getName();
-			String value = getDefaultValueForNullData(cachedData.get(name));
-			Class<? extends Enum<?>> enumClass = type.getEnumClass();
-			JsonNode data = convertStringToJson(value);
+			if (!groupFilter.isEnabled(type)) {
+				continue;
+			}
+			JsonNode data = results.get(type.getValue());
 			if (data != null && data.isArray()) {
 				int index = 1;
 				for (JsonNode item : data) {
-					String group = name + (data.size() == 1 ? "" : String.valueOf(index)) + "#";
-					populateStats(stats, group, enumClass, item);
+					populateStats(stats, data.size() == 1 ? 0 : index, type, item);
 					index++;
 				}
 			}
@@ -423,39 +2931,32 @@ public class LogitechCollabOsCommunicator extends RestCommunicator implements Mo
 	}
 
 	/**
-	 * Populates stats map with data extracted from the given JsonNode based on the provided enum class.
-	 * Adds the extracted data to the stats map with the specified group prefix.
-	 * @param stats The map to populate with data.
-	 * @param group The prefix for the keys in the stats map.
-	 * @param enumClass The enum class representing the properties to extract from the JsonNode.
-	 * @param item The JsonNode containing the data to extract.
+	 * Updates the slots of the peripherals of a type, logging the items added, removed or updated since the last cycle
+	 *
+	 * @param type The peripheral type.
+	 * @param items The metric values of every item, or null if the response has no array of this type.
 	 */
-	private void populateStats(Map<String, String> stats, String group, Class<? extends Enum<?>> enumClass, JsonNode item) {
-		for (Enum<?> property : enumClass.getEnumConstants()) {
-			try {
-				Method methodName = property.getClass().getMethod("getName");
-				Method methodValue = property.getClass().getMethod("getValue");
-				String nameMetric = (String) methodName.invoke(property);
-				String valueMetric = (String) methodValue.invoke(property);
-				if (item.get(nameMetric) != null) {
-					stats.put(group + valueMetric, capitalizeFirstLetter(item.get(nameMetric).asText()));
-				}
-			} catch (Exception e) {
-				logger.error("Error when populate peripheral data", e);
-			}
+	private void indexPeripherals(PeripheralType type, List<String[]> items) {
+		int changes = peripheralIndex.update(type, items == null ? Collections.emptyList() : items);
+		if (changes > 0 && logger.isDebugEnabled()) {
+			logger.debug(String.format("%s %s items of %s added, removed or updated", changes, type.getName(), host));
 		}
 	}
 
 	/**
-	 * Converts the given JSON string to a JsonNode.
-	 * @param data The JSON string to convert.
-	 * @return The JsonNode representing the converted JSON data, or null if conversion fails.
+	 * Populates stats map with data extracted from the given JsonNode based on the extraction table of the peripheral type.
+	 * Adds the extracted data to the stats map under the group of the item.
+	 * @param stats The map to populate with data.
+	 * @param index The index of the item from 1, or 0 if it is the only item of its type.
+	 * @param type The peripheral type holding the metrics to extract from the JsonNode.
+	 * @param item The JsonNode containing the data to extract.
 	 */
-	private JsonNode convertStringToJson(String data) {
-		try {
-			return objectMapper.readTree(data);
-		} catch (Exception e) {
-			return null;
+	private void populateStats(Map<String, String> stats, int index, PeripheralType type, JsonNode item) {
+		for (int i = 0; i < type.getMetricCount(); i++) {
+			JsonNode value = item.get(type.getFieldName(i));
+			if (value != null) {
+				stats.put(type.getPropertyKey(index, i), capitalizeFirstLetter(value.asText()));
+			}
 		}
 	}
 
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+/**
+ * State of the {@link CircuitBreaker} of a {@link LogitechCommand}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public enum BreakerState {
+	CLOSED("Closed"),
+	OPEN("Open"),
+	HALF_OPEN("HalfOpen"),
+	;
+	private final String name;
+
+	/**
+	 * Constructor of BreakerState
+	 *
+	 * @param name is the name of the state in the statistics
+	 */
+	BreakerState(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Health tracker of a {@link LogitechCommand}.
+ * After {@link #failureThreshold} consecutive failures the breaker opens and the command is skipped until its backoff has elapsed,
+ * then a single probe is let through half-open: a success closes the breaker, a failure opens it again with twice the backoff.
+ * The backoff is capped at {@link #maxBackoff} and jittered between half and all of its value, so devices do not retry in lockstep.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class CircuitBreaker {
+	private volatile int failureThreshold = 3;
+	private volatile long baseBackoff = 30000;
+	private volatile long maxBackoff = 900000;
+	private volatile BreakerState state = BreakerState.CLOSED;
+	private volatile int consecutiveFailures;
+	private volatile int trips;
+	private volatile long retryTime;
+
+	/**
+	 * Retrieves {@link #failureThreshold}
+	 *
+	 * @return value of {@link #failureThreshold}
+	 */
+	public int getFailureThreshold() {
+		return failureThreshold;
+	}
+
+	/**
+	 * Sets {@link #failureThreshold} value
+	 *
+	 * @param failureThreshold consecutive failures opening the breaker, 0 to never open it
+	 */
+	public void setFailureThreshold(int failureThreshold) {
+		this.failureThreshold = Math.max(0, failureThreshold);
+	}
+
+	/**
+	 * Sets {@link #baseBackoff} value
+	 *
+	 * @param baseBackoff backoff of the first opening in milliseconds
+	 */
+	public void setBaseBackoff(long baseBackoff) {
+		this.baseBackoff = Math.max(0, baseBackoff);
+	}
+
+	/**
+	 * Sets {@link #maxBackoff} value
+	 *
+	 * @param maxBackoff upper bound of the backoff in milliseconds
+	 */
+	public void setMaxBackoff(long maxBackoff) {
+		this.maxBackoff = Math.max(0, maxBackoff);
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public BreakerState getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves {@link #consecutiveFailures}
+	 *
+	 * @return value of {@link #consecutiveFailures}
+	 */
+	public int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	/**
+	 * Retrieves {@link #retryTime}
+	 *
+	 * @return time the open breaker lets the next probe through, in milliseconds
+	 */
+	public long getRetryTime() {
+		return retryTime;
+	}
+
+	/**
+	 * Check whether the command may be sent, moving an open breaker to half-open once its backoff has elapsed
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the command may be sent
+	 */
+	public synchronized boolean allowRequest(long now) {
+		if (state == BreakerState.OPEN && now >= retryTime) {
+			state = BreakerState.HALF_OPEN;
+		}
+		return state != BreakerState.OPEN;
+	}
+
+	/**
+	 * Records a successful request, closing the breaker
+	 */
+	public synchronized void recordSuccess() {
+		state = BreakerState.CLOSED;
+		consecutiveFailures = 0;
+		trips = 0;
+		retryTime = 0;
+	}
+
+	/**
+	 * Records a failed request, opening the breaker if the threshold is reached or the half-open probe failed
+	 *
+	 * @param now time of the failure in milliseconds
+	 * @return true if the breaker opened
+	 */
+	public synchronized boolean recordFailure(long now) {
+		consecutiveFailures++;
+		if (failureThreshold == 0 || (state != BreakerState.HALF_OPEN && consecutiveFailures < failureThreshold)) {
+			return false;
+		}
+		long backoff = Math.min(maxBackoff, baseBackoff << Math.min(trips, 30));
+		trips++;
+		retryTime = now + backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+		state = BreakerState.OPEN;
+		return true;
+	}
+
+	/**
+	 * Closes the breaker and forgets past failures
+	 */
+	public synchronized void reset() {
+		recordSuccess();
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request latency, response size, parse time and outcomes of a {@link LogitechCommand}, published in the AdapterMetrics group
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class CommandMetrics {
+	private static final CommandOutcome[] OUTCOMES = CommandOutcome.values();
+
+	private final RollingWindow latency;
+	private final RollingWindow parseTime;
+	private final AtomicLongArray outcomeCounts = new AtomicLongArray(OUTCOMES.length);
+	private volatile long responseBytes;
+	private volatile CommandOutcome lastOutcome;
+
+	/**
+	 * Constructor of CommandMetrics
+	 *
+	 * @param window number of samples the rolling percentiles are computed over
+	 */
+	public CommandMetrics(int window) {
+		this.latency = new RollingWindow(window);
+		this.parseTime = new RollingWindow(window);
+	}
+
+	/**
+	 * Changes the number of samples the rolling percentiles are computed over
+	 *
+	 * @param window number of samples
+	 */
+	public void setWindow(int window) {
+		latency.resize(window);
+		parseTime.resize(window);
+	}
+
+	/**
+	 * Records a response of the device
+	 *
+	 * @param latencyNanos time from sending the request to receiving the whole body
+	 * @param bytes size of the body, 0 for 304 Not Modified
+	 */
+	public void recordResponse(long latencyNanos, int bytes) {
+		latency.record(latencyNanos);
+		responseBytes = bytes;
+	}
+
+	/**
+	 * Records the time spent decoding a response
+	 *
+	 * @param parseNanos decode time
+	 */
+	public void recordParse(long parseNanos) {
+		parseTime.record(parseNanos);
+	}
+
+	/**
+	 * Records the outcome of the command in a cycle
+	 *
+	 * @param outcome the outcome
+	 */
+	public void recordOutcome(CommandOutcome outcome) {
+		outcomeCounts.incrementAndGet(outcome.ordinal());
+		lastOutcome = outcome;
+	}
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return request latencies in nanoseconds
+	 */
+	public RollingWindow getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Retrieves {@link #parseTime}
+	 *
+	 * @return decode times in nanoseconds
+	 */
+	public RollingWindow getParseTime() {
+		return parseTime;
+	}
+
+	/**
+	 * Retrieves {@link #responseBytes}
+	 *
+	 * @return size of the last response body
+	 */
+	public long getResponseBytes() {
+		return responseBytes;
+	}
+
+	/**
+	 * Retrieves {@link #lastOutcome}
+	 *
+	 * @return outcome of the last cycle the command took part in, null if none
+	 */
+	public CommandOutcome getLastOutcome() {
+		return lastOutcome;
+	}
+
+	/**
+	 * Retrieves the number of cycles that ended with an outcome
+	 *
+	 * @param outcome the outcome
+	 * @return count of the outcome
+	 */
+	public long getOutcomeCount(CommandOutcome outcome) {
+		return outcomeCounts.get(outcome.ordinal());
+	}
+
+	/**
+	 * Drops every sample and count
+	 */
+	public void reset() {
+		latency.clear();
+		parseTime.clear();
+		for (int i = 0; i < OUTCOMES.length; i++) {
+			outcomeCounts.set(i, 0);
+		}
+		responseBytes = 0;
+		lastOutcome = null;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+/**
+ * Outcome of a {@link LogitechCommand} in a poll cycle
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public enum CommandOutcome {
+	SUCCESS("Success"),
+	UNCHANGED("Unchanged"),
+	REJECTED("Rejected"),
+	FAILED("Failed"),
+	SKIPPED("Skipped"),
+	;
+	private final String name;
+
+	/**
+	 * Constructor of CommandOutcome
+	 *
+	 * @param name is the name of the outcome in the statistics
+	 */
+	CommandOutcome(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,341 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the last good result of a {@link LogitechCommand} and when it was retrieved,
+ * so the command is only sent again once its polling interval has elapsed.
+ * The fingerprint and ETag of the response are kept along with the statistics computed from it,
+ * so an unchanged response can be answered with the same statistics without parsing it again.
+ * The maps replaced by a new result are kept and handed out again, cleared, to decode the next one.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class CommandState {
+	private final LogitechCommand command;
+	private volatile long pollingInterval;
+	private volatile long adaptedPollingInterval = -1;
+	private volatile long lastRefreshTime;
+	private volatile Map<String, String> data;
+	private volatile Map<String, String> stats;
+	private Map<String, String> spareData;
+	private Map<String, String> spareStats;
+	private volatile byte[] fingerprint;
+	private volatile String etag;
+	private volatile byte[] stagedFingerprint;
+	private volatile String stagedEtag;
+	private volatile boolean changed;
+	private volatile long roundTrip;
+	private volatile long roundTripTime;
+	private final CircuitBreaker breaker = new CircuitBreaker();
+	private final CommandMetrics metrics = new CommandMetrics(LogitechConstant.DEFAULT_METRICS_WINDOW);
+
+	/**
+	 * Constructor of CommandState
+	 *
+	 * @param command the command this state belongs to
+	 */
+	public CommandState(LogitechCommand command) {
+		this.command = command;
+		this.pollingInterval = command.getDefaultPollingInterval() * 1000;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public LogitechCommand getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #breaker}
+	 *
+	 * @return value of {@link #breaker}
+	 */
+	public CircuitBreaker getBreaker() {
+		return breaker;
+	}
+
+	/**
+	 * Retrieves {@link #metrics}
+	 *
+	 * @return value of {@link #metrics}
+	 */
+	public CommandMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return value of {@link #pollingInterval} in milliseconds
+	 */
+	public long getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Sets {@link #pollingInterval} value
+	 *
+	 * @param pollingInterval new value of {@link #pollingInterval} in milliseconds
+	 */
+	public void setPollingInterval(long pollingInterval) {
+		this.pollingInterval = Math.max(0, pollingInterval);
+	}
+
+	/**
+	 * Sets {@link #adaptedPollingInterval} value, overriding {@link #pollingInterval} until it is cleared
+	 *
+	 * @param adaptedPollingInterval new value of {@link #adaptedPollingInterval} in milliseconds, a negative value to clear it
+	 */
+	public void setAdaptedPollingInterval(long adaptedPollingInterval) {
+		this.adaptedPollingInterval = Math.max(-1, adaptedPollingInterval);
+	}
+
+	/**
+	 * Retrieves the polling interval in use, the adapted one if set and {@link #pollingInterval} otherwise
+	 *
+	 * @return the polling interval in milliseconds
+	 */
+	public long getEffectivePollingInterval() {
+		long adapted = adaptedPollingInterval;
+		return adapted >= 0 ? adapted : pollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #lastRefreshTime}
+	 *
+	 * @return value of {@link #lastRefreshTime}
+	 */
+	public long getLastRefreshTime() {
+		return lastRefreshTime;
+	}
+
+	/**
+	 * Retrieves {@link #roundTrip}
+	 *
+	 * @return duration in nanoseconds of the last successful request
+	 */
+	public long getRoundTrip() {
+		return roundTrip;
+	}
+
+	/**
+	 * Retrieves {@link #roundTripTime}
+	 *
+	 * @return time the last successful request completed, 0 if none did
+	 */
+	public long getRoundTripTime() {
+		return roundTripTime;
+	}
+
+	/**
+	 * Records the duration of a successful request, including requests answered with 304
+	 *
+	 * @param roundTrip duration of the request in nanoseconds
+	 * @param now time the request completed
+	 */
+	public void recordRoundTrip(long roundTrip, long now) {
+		this.roundTrip = roundTrip;
+		this.roundTripTime = now;
+	}
+
+	/**
+	 * Retrieves the last good result of the command
+	 *
+	 * @return the last good result, or an empty map if the command never succeeded
+	 */
+	public Map<String, String> getData() {
+		return data == null ? Collections.emptyMap() : data;
+	}
+
+	/**
+	 * Retrieves {@link #stats}
+	 *
+	 * @return the statistics computed from the last good result, or null if they have to be computed again
+	 */
+	public Map<String, String> getStats() {
+		return stats;
+	}
+
+	/**
+	 * Sets {@link #stats} value
+	 *
+	 * @param stats the statistics computed from the last good result
+	 */
+	public void setStats(Map<String, String> stats) {
+		this.stats = stats;
+	}
+
+	/**
+	 * Retrieves an empty map to decode a response into, reusing the data map replaced by the last {@link #update(Map, long)}
+	 *
+	 * @return an empty map
+	 */
+	public synchronized Map<String, String> obtainDataBuffer() {
+		Map<String, String> buffer = spareData;
+		if (buffer == null) {
+			return new HashMap<>();
+		}
+		spareData = null;
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Retrieves an empty map to compute the statistics into, reusing the statistics map dropped by the last {@link #update(Map, long)}
+	 *
+	 * @return an empty map
+	 */
+	public synchronized Map<String, String> obtainStatsBuffer() {
+		Map<String, String> buffer = spareStats;
+		if (buffer == null) {
+			return new HashMap<>();
+		}
+		spareStats = null;
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Retrieves {@link #etag}
+	 *
+	 * @return value of {@link #etag}
+	 */
+	public String getEtag() {
+		return etag;
+	}
+
+	/**
+	 * Retrieves {@link #changed}
+	 *
+	 * @return true if the last refresh returned new data, false if the response was unchanged
+	 */
+	public boolean isChanged() {
+		return changed;
+	}
+
+	/**
+	 * Check whether a response body fingerprint matches the last good result
+	 *
+	 * @param fingerprint fingerprint of the response body
+	 * @return true if the last good result was built from the same body
+	 */
+	public boolean matches(byte[] fingerprint) {
+		return data != null && Arrays.equals(this.fingerprint, fingerprint);
+	}
+
+	/**
+	 * Keeps the fingerprint and ETag of a new response until its data is stored by {@link #update(Map, long)}
+	 *
+	 * @param fingerprint fingerprint of the response body
+	 * @param etag ETag of the response, may be null
+	 */
+	public void stage(byte[] fingerprint, String etag) {
+		this.stagedFingerprint = fingerprint;
+		this.stagedEtag = etag;
+	}
+
+	/**
+	 * Records that the device answered with the same data as the last good result
+	 *
+	 * @param etag ETag of the response, null to keep the current one
+	 * @param now time of the retrieval in milliseconds
+	 */
+	public void markUnchanged(String etag, long now) {
+		if (etag != null) {
+			this.etag = etag;
+		}
+		this.lastRefreshTime = now;
+		this.changed = false;
+	}
+
+	/**
+	 * Check whether the command has to be sent in the current cycle
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the command never succeeded or its effective polling interval has elapsed
+	 */
+	public boolean isRefreshDue(long now) {
+		return data == null || now - lastRefreshTime >= getEffectivePollingInterval();
+	}
+
+	/**
+	 * Check whether the last good result can still be served, being within its polling interval
+	 *
+	 * @param now current time in milliseconds
+	 * @return true if the command has a result not due for a refresh
+	 */
+	public boolean hasValidData(long now) {
+		return data != null && !isRefreshDue(now);
+	}
+
+	/**
+	 * Stores a new good result of the command
+	 *
+	 * @param data the retrieved data
+	 * @param now time of the retrieval in milliseconds
+	 */
+	public synchronized void update(Map<String, String> data, long now) {
+		if (this.data != null && this.data != data) {
+			spareData = this.data;
+		}
+		if (this.stats != null) {
+			spareStats = this.stats;
+		}
+		this.data = data;
+		this.stats = null;
+		this.fingerprint = stagedFingerprint;
+		this.etag = stagedEtag;
+		this.stagedFingerprint = null;
+		this.stagedEtag = null;
+		this.lastRefreshTime = now;
+		this.changed = true;
+	}
+
+	/**
+	 * Restores a result loaded from a snapshot. It is served until the command is refreshed, which is due right away.
+	 *
+	 * @param data the restored data
+	 */
+	public synchronized void restore(Map<String, String> data) {
+		this.data = data;
+		this.stats = null;
+		this.fingerprint = null;
+		this.etag = null;
+		this.lastRefreshTime = 0;
+		this.changed = false;
+	}
+
+	/**
+	 * Drops the stored result so the command is sent again in the next cycle
+	 */
+	public synchronized void reset() {
+		this.data = null;
+		this.stats = null;
+		this.spareData = null;
+		this.spareStats = null;
+		this.fingerprint = null;
+		this.etag = null;
+		this.stagedFingerprint = null;
+		this.stagedEtag = null;
+		this.lastRefreshTime = 0;
+		this.adaptedPollingInterval = -1;
+		this.changed = false;
+		this.roundTrip = 0;
+		this.roundTripTime = 0;
+		this.breaker.reset();
+		this.metrics.reset();
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+
+/**
+ * Counts the sockets opened, the TLS handshakes and the reused connections of the pooled client of the base communicator.
+ * The client is wrapped so that every request runs in a context watching the connection it leases: a connection open
+ * when leased is reused, otherwise it is opened for the request. A reused connection idle for longer than
+ * {@link #validateAfterInactivity} is checked for staleness and closed if stale, so the client opens a new one.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class ConnectionMetrics {
+	/**
+	 * Index of the opened sockets in a snapshot
+	 */
+	public static final int SOCKETS = 0;
+
+	/**
+	 * Index of the TLS handshakes in a snapshot
+	 */
+	public static final int HANDSHAKES = 1;
+
+	/**
+	 * Index of the requests sent on an already used connection in a snapshot
+	 */
+	public static final int REUSED_CONNECTIONS = 2;
+
+	/**
+	 * Size of a snapshot
+	 */
+	public static final int COUNTERS = 3;
+
+	private final AtomicLong sockets = new AtomicLong();
+	private final AtomicLong handshakes = new AtomicLong();
+	private final AtomicLong reusedConnections = new AtomicLong();
+
+	/**
+	 * Time of the last request sent on each connection used within {@link #validateAfterInactivity}, keyed by connection id
+	 */
+	private final Map<String, Long> lastRequests = new ConcurrentHashMap<>();
+
+	private volatile int validateAfterInactivity = LogitechConstant.DEFAULT_CONNECTION_VALIDATE_AFTER_INACTIVITY;
+
+	/**
+	 * Sets {@link #validateAfterInactivity} value in milliseconds, a non-positive value disables the check
+	 *
+	 * @param validateAfterInactivity idle time after which a connection is checked for staleness before being reused
+	 */
+	public void setValidateAfterInactivity(int validateAfterInactivity) {
+		this.validateAfterInactivity = validateAfterInactivity;
+	}
+
+	/**
+	 * Wraps a client so that its requests are counted. The wrapper does not close the client, it stays owned by its creator.
+	 *
+	 * @param httpClient the client to wrap
+	 * @return the metered client, or the given one if it cannot be wrapped
+	 */
+	public HttpClient wrap(HttpClient httpClient) {
+		return httpClient instanceof CloseableHttpClient ? new MeteredHttpClient((CloseableHttpClient) httpClient) : httpClient;
+	}
+
+	/**
+	 * Copies the counters into the given array, indexed by {@link #SOCKETS}, {@link #HANDSHAKES} and {@link #REUSED_CONNECTIONS}
+	 *
+	 * @param counters array of at least {@link #COUNTERS} elements
+	 */
+	public void snapshot(long[] counters) {
+		counters[SOCKETS] = sockets.get();
+		counters[HANDSHAKES] = handshakes.get();
+		counters[REUSED_CONNECTIONS] = reusedConnections.get();
+	}
+
+	/**
+	 * Resets the counters
+	 */
+	public void reset() {
+		sockets.set(0);
+		handshakes.set(0);
+		reusedConnections.set(0);
+		lastRequests.clear();
+	}
+
+	/**
+	 * Checks a connection leased from the pool, closing it when it was idle for longer than {@link #validateAfterInactivity}
+	 * and is stale. A connection without a recorded request within that time counts as idle.
+	 *
+	 * @param connection the leased connection
+	 * @return true if the connection is open and reused by the request
+	 */
+	private boolean validate(HttpConnection connection) {
+		if (!connection.isOpen()) {
+			return false;
+		}
+		int inactivity = validateAfterInactivity;
+		if (inactivity <= 0 || !(connection instanceof ManagedHttpClientConnection)) {
+			return true;
+		}
+		long now = System.currentTimeMillis();
+		lastRequests.values().removeIf(time -> now - time > inactivity);
+		if (!lastRequests.containsKey(((ManagedHttpClientConnection) connection).getId()) && connection.isStale()) {
+			try {
+				connection.close();
+			} catch (IOException e) {
+				// The connection is discarded anyway
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Counts a request about to be sent on a connection
+	 *
+	 * @param connection the connection of the request
+	 * @param reused whether the connection was open when leased
+	 */
+	private void record(HttpConnection connection, boolean reused) {
+		if (reused) {
+			reusedConnections.incrementAndGet();
+		} else {
+			sockets.incrementAndGet();
+		}
+		if (connection instanceof ManagedHttpClientConnection) {
+			ManagedHttpClientConnection managedConnection = (ManagedHttpClientConnection) connection;
+			if (!reused && managedConnection.getSSLSession() != null) {
+				handshakes.incrementAndGet();
+			}
+			if (validateAfterInactivity > 0) {
+				lastRequests.put(managedConnection.getId(), System.currentTimeMillis());
+			}
+		}
+	}
+
+	/**
+	 * Context of a single request, falling back to the context given by the caller. The client sets
+	 * {@link HttpCoreContext#HTTP_CONNECTION} when it leases a connection, before opening it if needed, and
+	 * {@link HttpCoreContext#HTTP_REQ_SENT} right before sending the request on it.
+	 */
+	private class MeteredContext extends BasicHttpContext {
+		private Object connection;
+		private boolean reused;
+
+		MeteredContext(HttpContext parentContext) {
+			super(parentContext);
+		}
+
+		@Override
+		public void setAttribute(String id, Object obj) {
+			if (HttpCoreContext.HTTP_CONNECTION.equals(id) && obj != connection && obj instanceof HttpConnection) {
+				connection = obj;
+				reused = validate((HttpConnection) obj);
+			} else if (HttpCoreContext.HTTP_REQ_SENT.equals(id) && Boolean.FALSE.equals(obj) && connection != null) {
+				record((HttpConnection) connection, reused);
+				reused = true;
+			}
+			super.setAttribute(id, obj);
+		}
+	}
+
+	/**
+	 * Client sending the requests through the wrapped client in a {@link MeteredContext}
+	 */
+	private class MeteredHttpClient extends CloseableHttpClient implements Configurable {
+		private final CloseableHttpClient httpClient;
+
+		MeteredHttpClient(CloseableHttpClient httpClient) {
+			this.httpClient = httpClient;
+		}
+
+		@Override
+		protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+			return httpClient.execute(target, request, new MeteredContext(context));
+		}
+
+		@Override
+		public RequestConfig getConfig() {
+			return httpClient instanceof Configurable ? ((Configurable) httpClient).getConfig() : null;
+		}
+
+		@Override
+		public void close() {
+			// The wrapped client is closed by its creator
+		}
+
+		@Override
+		@Deprecated
+		public HttpParams getParams() {
+			return httpClient.getParams();
+		}
+
+		@Override
+		@Deprecated
+		public ClientConnectionManager getConnectionManager() {
+			return httpClient.getConnectionManager();
+		}
+	}
+}
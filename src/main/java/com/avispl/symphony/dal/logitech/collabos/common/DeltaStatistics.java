@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Statistics kept across cycles and updated in place from the statistics of every cycle.
+ * Unchanged properties keep their key and value instances, and the time each property last changed is published
+ * as LastChanged#&lt;Property&gt; together with the number of properties that changed in the last cycle.
+ * Properties starting with one of the untracked prefixes, such as adapter metrics, are kept up to date without
+ * change tracking.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class DeltaStatistics {
+	private final Map<String, String> statistics = new HashMap<>();
+	private final Map<String, Property> properties = new HashMap<>();
+	private final String[] untrackedPrefixes;
+	private long cycle;
+	private int changedProperties = -1;
+
+	/**
+	 * Constructor of DeltaStatistics
+	 *
+	 * @param untrackedPrefixes prefixes of the properties whose changes are neither timestamped nor counted
+	 */
+	public DeltaStatistics(String... untrackedPrefixes) {
+		this.untrackedPrefixes = untrackedPrefixes;
+	}
+
+	/**
+	 * Applies the statistics of a cycle. Properties missing from them are removed.
+	 *
+	 * @param cycleStatistics the statistics of the cycle
+	 * @param now time of the cycle
+	 * @return the updated statistics, the same instance on every cycle
+	 */
+	public Map<String, String> apply(Map<String, String> cycleStatistics, long now) {
+		cycle++;
+		int changed = 0;
+		String changeTime = null;
+		for (Map.Entry<String, String> entry : cycleStatistics.entrySet()) {
+			Property property = properties.get(entry.getKey());
+			boolean added = property == null;
+			if (added) {
+				property = new Property(entry.getKey(), isTracked(entry.getKey()));
+				properties.put(property.key, property);
+			}
+			property.cycle = cycle;
+			if (added || !Objects.equals(property.value, entry.getValue())) {
+				property.value = entry.getValue();
+				statistics.put(property.key, property.value);
+				property.changeTime = now;
+				if (property.timestampKey != null) {
+					if (changeTime == null) {
+						changeTime = Instant.ofEpochMilli(now).toString();
+					}
+					statistics.put(property.timestampKey, changeTime);
+					changed++;
+				}
+			}
+		}
+		Iterator<Property> iterator = properties.values().iterator();
+		while (iterator.hasNext()) {
+			Property property = iterator.next();
+			if (property.cycle != cycle) {
+				iterator.remove();
+				statistics.remove(property.key);
+				if (property.timestampKey != null) {
+					statistics.remove(property.timestampKey);
+					changed++;
+				}
+			}
+		}
+		if (changed != changedProperties) {
+			changedProperties = changed;
+			statistics.put(LogitechConstant.CHANGED_PROPERTIES, String.valueOf(changed));
+		}
+		return statistics;
+	}
+
+	/**
+	 * Retrieves the time a property last changed
+	 *
+	 * @param name name of the property
+	 * @return time of the last change, 0 if the property is unknown
+	 */
+	public long getChangeTime(String name) {
+		Property property = properties.get(name);
+		return property == null ? 0 : property.changeTime;
+	}
+
+	/**
+	 * Retrieves {@link #changedProperties}
+	 *
+	 * @return number of tracked properties that changed in the last cycle
+	 */
+	public int getChangedProperties() {
+		return Math.max(0, changedProperties);
+	}
+
+	/**
+	 * Drops every property
+	 */
+	public void clear() {
+		statistics.clear();
+		properties.clear();
+		changedProperties = -1;
+	}
+
+	private boolean isTracked(String name) {
+		for (String prefix : untrackedPrefixes) {
+			if (name.startsWith(prefix)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Last value and change time of a property
+	 */
+	private static class Property {
+		private final String key;
+		private final String timestampKey;
+		private String value;
+		private long changeTime;
+		private long cycle;
+
+		Property(String key, boolean tracked) {
+			this.key = key;
+			this.timestampKey = tracked ? LogitechConstant.LAST_CHANGED + key : null;
+		}
+	}
+}
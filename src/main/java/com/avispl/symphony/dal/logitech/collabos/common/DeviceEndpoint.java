@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * Host, port and credentials of a CollabOS device polled by the aggregator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class DeviceEndpoint {
+	private final String host;
+	private final int port;
+	private final String login;
+	private final String password;
+
+	/**
+	 * Constructor of DeviceEndpoint
+	 *
+	 * @param host host of the device
+	 * @param port port of the device, 0 for the default port of the protocol
+	 * @param login login of the device
+	 * @param password password of the device
+	 */
+	public DeviceEndpoint(String host, int port, String login, String password) {
+		this.host = host;
+		this.port = port;
+		this.login = login;
+		this.password = password;
+	}
+
+	/**
+	 * Parses a device list of entries separated by ';' or new lines, each entry being host[:port][,login,password].
+	 * Entries without credentials use the given default ones.
+	 *
+	 * @param deviceList the configured device list
+	 * @param defaultLogin login used when an entry has none
+	 * @param defaultPassword password used when an entry has none
+	 * @return the parsed endpoints in configuration order
+	 * @throws IllegalArgumentException if an entry cannot be parsed
+	 */
+	public static List<DeviceEndpoint> parse(String deviceList, String defaultLogin, String defaultPassword) {
+		List<DeviceEndpoint> endpoints = new ArrayList<>();
+		if (StringUtils.isNullOrEmpty(deviceList)) {
+			return endpoints;
+		}
+		for (String entry : deviceList.split("[;\\r\\n]+")) {
+			entry = entry.trim();
+			if (entry.isEmpty()) {
+				continue;
+			}
+			String[] fields = entry.split(",", 3);
+			if (fields.length == 2) {
+				throw new IllegalArgumentException("Device entry needs both login and password: " + fields[0]);
+			}
+			String address = fields[0].trim();
+			String host = address;
+			int port = 0;
+			int colon = address.lastIndexOf(':');
+			if (colon > 0) {
+				host = address.substring(0, colon);
+				try {
+					port = Integer.parseInt(address.substring(colon + 1));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Invalid port in device entry: " + address);
+				}
+			}
+			String login = fields.length == 3 ? fields[1].trim() : defaultLogin;
+			String password = fields.length == 3 ? fields[2] : defaultPassword;
+			endpoints.add(new DeviceEndpoint(host, port, login, password));
+		}
+		return endpoints;
+	}
+
+	/**
+	 * Retrieves {@link #host}
+	 *
+	 * @return value of {@link #host}
+	 */
+	public String getHost() {
+		return host;
+	}
+
+	/**
+	 * Retrieves {@link #port}
+	 *
+	 * @return value of {@link #port}
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * Retrieves {@link #login}
+	 *
+	 * @return value of {@link #login}
+	 */
+	public String getLogin() {
+		return login;
+	}
+
+	/**
+	 * Retrieves {@link #password}
+	 *
+	 * @return value of {@link #password}
+	 */
+	public String getPassword() {
+		return password;
+	}
+
+	/**
+	 * Retrieves the id of the aggregated device
+	 *
+	 * @return host, followed by the port if one is configured
+	 */
+	public String getDeviceId() {
+		return port > 0 ? host + ":" + port : host;
+	}
+}
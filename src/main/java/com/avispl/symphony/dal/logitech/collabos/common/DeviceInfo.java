@@ -24,6 +24,7 @@ public enum DeviceInfo {
 	DEVICE_CONFIGURATION("deviceConfiguration"),
 	;
 	private final String name;
+	private final String propertyName;
 
 	/**
 	 * Constructor of DeviceInfo
@@ -32,6 +33,7 @@ public enum DeviceInfo {
 	 */
 	DeviceInfo(String name) {
 		this.name = name;
+		this.propertyName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
 	}
 
 	/**
@@ -42,4 +44,13 @@ public enum DeviceInfo {
 	public String getName() {
 		return name;
 	}
+
+	/**
+	 * Retrieves {@link #propertyName}
+	 *
+	 * @return the statistics property of the field, its name with the first letter capitalized
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
 }
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Selection of the commands and peripheral types to retrieve, built from comma-separated lists of included and excluded groups.
+ * A group is either a command, by its statistics name such as DeviceInfo or its constant name such as DEVICE_INFO,
+ * or a peripheral type by its group name such as USBDevice. The insight groups RoomInsights and DeviceInsights are the
+ * names of their commands. Groups are matched ignoring case.
+ * <p>
+ * Without any known included group, every group is included. Including a peripheral type includes the Peripherals command,
+ * including the Peripherals command includes all its types, and the Peripherals command is excluded once all its types are.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class GroupFilter {
+	private final Set<LogitechCommand> commands = EnumSet.noneOf(LogitechCommand.class);
+	private final Set<PeripheralType> peripheralTypes = EnumSet.noneOf(PeripheralType.class);
+	private final Set<String> unknownGroups = new LinkedHashSet<>();
+
+	/**
+	 * Constructor of GroupFilter
+	 *
+	 * @param included comma-separated groups to retrieve, null or empty to retrieve every group not excluded
+	 * @param excluded comma-separated groups not to retrieve, null or empty to exclude none
+	 */
+	public GroupFilter(String included, String excluded) {
+		Set<LogitechCommand> includedCommands = EnumSet.noneOf(LogitechCommand.class);
+		Set<PeripheralType> includedTypes = EnumSet.noneOf(PeripheralType.class);
+		Set<LogitechCommand> excludedCommands = EnumSet.noneOf(LogitechCommand.class);
+		Set<PeripheralType> excludedTypes = EnumSet.noneOf(PeripheralType.class);
+		parse(included, includedCommands, includedTypes);
+		parse(excluded, excludedCommands, excludedTypes);
+		boolean all = includedCommands.isEmpty() && includedTypes.isEmpty();
+
+		for (PeripheralType type : PeripheralType.values()) {
+			if (!excludedTypes.contains(type) && !excludedCommands.contains(LogitechCommand.PERIPHERALS_INFO)
+					&& (all || includedTypes.contains(type) || includedCommands.contains(LogitechCommand.PERIPHERALS_INFO))) {
+				peripheralTypes.add(type);
+			}
+		}
+		for (LogitechCommand command : LogitechCommand.values()) {
+			if (!excludedCommands.contains(command) && (all || includedCommands.contains(command))) {
+				commands.add(command);
+			}
+		}
+		if (peripheralTypes.isEmpty()) {
+			commands.remove(LogitechCommand.PERIPHERALS_INFO);
+		} else {
+			commands.add(LogitechCommand.PERIPHERALS_INFO);
+		}
+	}
+
+	/**
+	 * Checks whether a command is retrieved
+	 *
+	 * @param command the command
+	 * @return true if the command is requested
+	 */
+	public boolean isEnabled(LogitechCommand command) {
+		return commands.contains(command);
+	}
+
+	/**
+	 * Checks whether the items of a peripheral type are decoded
+	 *
+	 * @param type the peripheral type
+	 * @return true if the items are decoded, false if they are skipped
+	 */
+	public boolean isEnabled(PeripheralType type) {
+		return peripheralTypes.contains(type);
+	}
+
+	/**
+	 * Retrieves {@link #unknownGroups}
+	 *
+	 * @return the included or excluded groups matching no command or peripheral type
+	 */
+	public Set<String> getUnknownGroups() {
+		return Collections.unmodifiableSet(unknownGroups);
+	}
+
+	/**
+	 * Splits a list of groups into the commands and peripheral types it names
+	 *
+	 * @param groups comma-separated groups
+	 * @param commands set receiving the commands
+	 * @param types set receiving the peripheral types
+	 */
+	private void parse(String groups, Set<LogitechCommand> commands, Set<PeripheralType> types) {
+		if (groups == null) {
+			return;
+		}
+		for (String group : groups.split(",")) {
+			String name = group.trim();
+			if (name.isEmpty()) {
+				continue;
+			}
+			boolean known = false;
+			for (LogitechCommand command : LogitechCommand.values()) {
+				if (command.getName().equalsIgnoreCase(name) || command.name().equalsIgnoreCase(name)) {
+					commands.add(command);
+					known = true;
+				}
+			}
+			for (PeripheralType type : PeripheralType.values()) {
+				if (type.getName().equalsIgnoreCase(name) || type.name().equalsIgnoreCase(name)) {
+					types.add(type);
+					known = true;
+				}
+			}
+			if (!known) {
+				unknownGroups.add(name);
+			}
+		}
+	}
+}
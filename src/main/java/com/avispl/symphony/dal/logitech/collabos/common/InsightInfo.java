@@ -22,6 +22,8 @@ public enum InsightInfo {
 	;
 	private final String name;
 	private final String group;
+	private final String propertyName;
+	private final String key;
 
 	/**
 	 * Constructor of InsightInfo
@@ -32,6 +34,8 @@ public enum InsightInfo {
 	InsightInfo(String name, String group) {
 		this.name = name;
 		this.group = group;
+		this.propertyName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		this.key = group + "#" + propertyName;
 	}
 
 	/**
@@ -51,4 +55,22 @@ public enum InsightInfo {
 	public String getGroup() {
 		return group;
 	}
+
+	/**
+	 * Retrieves {@link #propertyName}
+	 *
+	 * @return the name with its first letter capitalized
+	 */
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	/**
+	 * Retrieves {@link #key}
+	 *
+	 * @return the statistics property of the insight, including its group
+	 */
+	public String getKey() {
+		return key;
+	}
 }
@@ -12,20 +12,35 @@ package com.avispl.symphony.dal.logitech.collabos.common;
  * @since 1.0.0
  */
 public enum LogitechCommand {
-	DEVICE_INFO("api/v1/device"),
-	INSIGHTS_ROOM("api/v1/insights/room"),
-	INSIGHTS_DEVICE("api/v1/insights/device"),
-	PERIPHERALS_INFO("api/v1/peripherals"),
+	DEVICE_INFO("DeviceInfo", "api/v1/device", 0),
+	INSIGHTS_ROOM("RoomInsights", "api/v1/insights/room", 0),
+	INSIGHTS_DEVICE("DeviceInsights", "api/v1/insights/device", 0),
+	PERIPHERALS_INFO("Peripherals", "api/v1/peripherals", 0),
 	;
+	private final String name;
 	private final String uri;
+	private final long defaultPollingInterval;
 
 	/**
 	 * Constructor of DeviceInfo
 	 *
+	 * @param name is the name of the command in the statistics
 	 * @param uri is device info
+	 * @param defaultPollingInterval is the default refresh interval in seconds, 0 to refresh on every cycle
 	 */
-	LogitechCommand(String uri) {
+	LogitechCommand(String name, String uri, long defaultPollingInterval) {
+		this.name = name;
 		this.uri = uri;
+		this.defaultPollingInterval = defaultPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
 	}
 
 	/**
@@ -36,4 +51,13 @@ public enum LogitechCommand {
 	public String getUri() {
 		return uri;
 	}
+
+	/**
+	 * Retrieves {@link #defaultPollingInterval}
+	 *
+	 * @return value of {@link #defaultPollingInterval}
+	 */
+	public long getDefaultPollingInterval() {
+		return defaultPollingInterval;
+	}
 }
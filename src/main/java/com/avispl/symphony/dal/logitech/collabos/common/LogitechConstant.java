@@ -19,5 +19,49 @@ public class LogitechConstant {
 	public static final String OCCUPANCY_COUNT = "occupancyCount";
 	public static final String OCCUPANCY_MODE = "occupancyMode";
 	public static final String NONE = "None";
+	public static final String AUTH_TOKEN = "auth_token";
+	public static final String EXPIRES_IN = "expires_in";
+	public static final long DEFAULT_TOKEN_LIFETIME = 12 * 3600L * 1000;
+	public static final double TOKEN_REFRESH_RATIO = 0.8;
+	public static final String COMMAND_HEALTH = "CommandHealth#";
+	public static final String CONSECUTIVE_FAILURES = "ConsecutiveFailures";
+	public static final String ADAPTER_METRICS = "AdapterMetrics#";
+	public static final int DEFAULT_METRICS_WINDOW = 60;
+	public static final String DEVICE_MAKE = "Logitech";
+	public static final String SYSTEM_NAME = "SystemName";
+	public static final String MODEL_NAME = "ModelName";
+	public static final String SERIAL_NUMBER = "SerialNumber";
+	public static final String ETHERNET_MAC = "EthernetMAC";
+	public static final String WIFI_MAC = "WifiMAC";
+	public static final String DEVICES = "Devices";
+	public static final String ONLINE_DEVICES = "OnlineDevices";
+	public static final long DEFAULT_DEVICE_POLLING_INTERVAL = 60;
+	public static final int DEFAULT_MAX_CONCURRENT_POLLS = 8;
+	public static final int AGGREGATOR_TOKEN_THREADS = 2;
+	public static final long DEFAULT_CONNECTION_MAX_IDLE_TIME = 30;
+	public static final int DEFAULT_CONNECTION_VALIDATE_AFTER_INACTIVITY = 2000;
+	public static final long DEFAULT_PING_ADDRESS_TTL = 60;
+	public static final long DEFAULT_HTTP_PING_MAX_AGE = 60;
+	public static final String PING_STATISTICS = "PingStatistics#";
+	public static final int PING_SAMPLES = 60;
+	public static final String CHANGED_PROPERTIES = "ChangedProperties";
+	public static final String LAST_CHANGED = "LastChanged#";
+	public static final int OCCUPANCY_SAMPLES = 2880;
+	public static final long OCCUPANCY_SAMPLE_SPACING = 30000;
+	public static final int TRANSITION_LOG_SIZE = 1024;
+	public static final int TRANSITION_STATES = 256;
+	public static final int RECENT_TRANSITIONS = 5;
+	public static final String MIC_MUTED = "MUTED";
+	public static final String MIC_MUTE_COUNT = "DeviceInsights#MicMuteCount24h";
+	public static final String RECENT_TRANSITIONS_PROPERTY = "DeviceInsights#RecentTransitions";
+	public static final long DEFAULT_SNAPSHOT_INTERVAL = 60;
+	public static final String SNAPSHOT_STALE = "Snapshot#Stale";
+	public static final String SNAPSHOT_SAVED_AT = "Snapshot#SavedAt";
+	public static final long DEFAULT_MIN_REFRESH_INTERVAL = 10;
+	public static final long DEFAULT_MAX_STALENESS = 300;
+	public static final long DEFAULT_ACTIVE_POLLING_INTERVAL = 30;
+	public static final long DEFAULT_IDLE_POLLING_INTERVAL = 900;
+	public static final String ADAPTIVE_POLLING = "AdaptivePolling#";
+	public static final String ROOM_ACTIVITY = "AdaptivePolling#RoomActivity";
 
 }
\ No newline at end of file
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+/**
+ * Ring buffer of timestamped occupancy counts with rolling min, max, average and share of occupied samples over a set of
+ * time windows. Every window keeps its running sum and monotonic queues of its min and max candidates, so recording a
+ * sample and expiring the old ones cost O(1) amortized per window, and nothing is allocated after construction.
+ * The time is split in buckets of the sample spacing centered on the first sample, and a sample is skipped when it falls
+ * in the bucket of the previous one or is closer than half the spacing to it. Polls jittering around a cycle equal to
+ * the spacing are all kept, while a full buffer still covers about capacity * spacing milliseconds.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class OccupancySeries {
+	public static final int MIN = 0;
+	public static final int MAX = 1;
+	public static final int AVERAGE = 2;
+	public static final int OCCUPIED = 3;
+
+	private final long[] times;
+	private final int[] counts;
+	private final long spacing;
+	private final Window[] windows;
+	private long next;
+	private long origin;
+
+	/**
+	 * Constructor of OccupancySeries
+	 *
+	 * @param capacity number of samples kept
+	 * @param spacing length in milliseconds of the buckets holding one recorded sample each
+	 * @param windowLengths lengths of the windows in milliseconds
+	 */
+	public OccupancySeries(int capacity, long spacing, long... windowLengths) {
+		int size = Math.max(1, capacity);
+		this.times = new long[size];
+		this.counts = new int[size];
+		this.spacing = spacing;
+		this.windows = new Window[windowLengths.length];
+		for (int i = 0; i < windowLengths.length; i++) {
+			windows[i] = new Window(windowLengths[i], size);
+		}
+	}
+
+	/**
+	 * Records an occupancy sample
+	 *
+	 * @param time time of the sample in milliseconds
+	 * @param count occupancy count
+	 * @return false if the sample was skipped because it falls in the bucket of the previous one or is too close to it
+	 */
+	public synchronized boolean record(long time, int count) {
+		if (next == 0) {
+			origin = time - spacing / 2;
+		} else if (spacing > 0) {
+			long previous = times[(int) ((next - 1) % times.length)];
+			if (time - previous < spacing / 2 || Math.floorDiv(time - origin, spacing) == Math.floorDiv(previous - origin, spacing)) {
+				return false;
+			}
+		}
+		if (next >= times.length) {
+			long overwritten = next - times.length;
+			for (Window window : windows) {
+				if (window.start == overwritten) {
+					window.evict();
+				}
+			}
+		}
+		int position = (int) (next % times.length);
+		times[position] = time;
+		counts[position] = count;
+		next++;
+		for (Window window : windows) {
+			window.add(position, count);
+			window.expire(time);
+		}
+		return true;
+	}
+
+	/**
+	 * Summarizes a window into the given array at {@link #MIN}, {@link #MAX}, {@link #AVERAGE} and {@link #OCCUPIED},
+	 * the latter being the percentage of samples with an occupancy above 0
+	 *
+	 * @param window index of the window, in the order of the constructor
+	 * @param now current time in milliseconds, samples older than the window are expired
+	 * @param summary array of at least 4 values to fill
+	 * @return false if the window holds no sample and the summary was not filled
+	 */
+	public synchronized boolean summarize(int window, long now, double[] summary) {
+		Window current = windows[window];
+		current.expire(now);
+		long size = next - current.start;
+		if (size == 0) {
+			return false;
+		}
+		summary[MIN] = counts[current.minQueue[current.minHead]];
+		summary[MAX] = counts[current.maxQueue[current.maxHead]];
+		summary[AVERAGE] = (double) current.sum / size;
+		summary[OCCUPIED] = current.occupied * 100.0 / size;
+		return true;
+	}
+
+	/**
+	 * Retrieves the number of samples in the buffer
+	 *
+	 * @return number of samples
+	 */
+	public synchronized int getCount() {
+		return (int) Math.min(next, times.length);
+	}
+
+	/**
+	 * Drops every sample
+	 */
+	public synchronized void clear() {
+		next = 0;
+		for (Window window : windows) {
+			window.start = 0;
+			window.sum = 0;
+			window.occupied = 0;
+			window.minSize = 0;
+			window.maxSize = 0;
+		}
+	}
+
+	/**
+	 * Running aggregates of the samples younger than a window length
+	 */
+	private class Window {
+		private final long length;
+		private final int[] minQueue;
+		private final int[] maxQueue;
+		private long start;
+		private long sum;
+		private int occupied;
+		private int minHead;
+		private int minSize;
+		private int maxHead;
+		private int maxSize;
+
+		Window(long length, int capacity) {
+			this.length = length;
+			this.minQueue = new int[capacity];
+			this.maxQueue = new int[capacity];
+		}
+
+		/**
+		 * Adds the newest sample, dropping the queued candidates it supersedes
+		 */
+		void add(int position, int count) {
+			sum += count;
+			if (count > 0) {
+				occupied++;
+			}
+			while (minSize > 0 && counts[minQueue[(minHead + minSize - 1) % minQueue.length]] >= count) {
+				minSize--;
+			}
+			minQueue[(minHead + minSize++) % minQueue.length] = position;
+			while (maxSize > 0 && counts[maxQueue[(maxHead + maxSize - 1) % maxQueue.length]] <= count) {
+				maxSize--;
+			}
+			maxQueue[(maxHead + maxSize++) % maxQueue.length] = position;
+		}
+
+		/**
+		 * Evicts the samples that are at least {@link #length} milliseconds older than the given time
+		 */
+		void expire(long now) {
+			while (start < next && times[(int) (start % times.length)] <= now - length) {
+				evict();
+			}
+		}
+
+		/**
+		 * Evicts the oldest sample of the window
+		 */
+		void evict() {
+			int position = (int) (start % times.length);
+			sum -= counts[position];
+			if (counts[position] > 0) {
+				occupied--;
+			}
+			if (minSize > 0 && minQueue[minHead] == position) {
+				minHead = (minHead + 1) % minQueue.length;
+				minSize--;
+			}
+			if (maxSize > 0 && maxQueue[maxHead] == position) {
+				maxHead = (maxHead + 1) % maxQueue.length;
+				maxSize--;
+			}
+			start++;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index giving every peripheral a stable slot keyed by its identity, see {@link PeripheralType#getIdentityIndex()},
+ * so that plugging or unplugging a peripheral does not renumber the others. Every update is diffed against the previous
+ * one and only the properties of the added, removed and updated items are rewritten in {@link #properties}.
+ * A freed slot is given to the next new item of its type. Items without identity are keyed by their position.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class PeripheralIndex {
+	private final Map<String, String> properties = new HashMap<>();
+	private final TypeSlots[] types = new TypeSlots[PeripheralType.values().length];
+	private int added;
+	private int removed;
+	private int updated;
+
+	/**
+	 * Constructor of PeripheralIndex
+	 */
+	public PeripheralIndex() {
+		for (PeripheralType type : PeripheralType.values()) {
+			types[type.ordinal()] = new TypeSlots();
+		}
+	}
+
+	/**
+	 * Updates the items of a peripheral type, the items missing from the list are removed
+	 *
+	 * @param type the peripheral type
+	 * @param items metric values of every item, indexed like the metrics of the type, null for a missing metric
+	 * @return number of items added, removed or updated
+	 */
+	public synchronized int update(PeripheralType type, List<String[]> items) {
+		TypeSlots slots = types[type.ordinal()];
+		Set<String> seen = new HashSet<>(items.size() * 4 / 3 + 1);
+		int changes = 0;
+		for (int position = 0; position < items.size(); position++) {
+			String[] values = items.get(position);
+			String identity = identityOf(type, values, position);
+			if (!seen.add(identity)) {
+				identity = identity + "#" + position;
+				seen.add(identity);
+			}
+			Slot slot = slots.slots.get(identity);
+			if (slot == null) {
+				int number = slots.used.nextClearBit(1);
+				slots.used.set(number);
+				slot = new Slot(number, new String[type.getMetricCount()]);
+				slots.slots.put(identity, slot);
+				write(type, slot, values);
+				added++;
+				changes++;
+			} else if (write(type, slot, values)) {
+				updated++;
+				changes++;
+			}
+		}
+		Iterator<Map.Entry<String, Slot>> iterator = slots.slots.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Slot> entry = iterator.next();
+			if (seen.contains(entry.getKey())) {
+				continue;
+			}
+			Slot slot = entry.getValue();
+			for (int i = 0; i < slot.values.length; i++) {
+				properties.remove(type.getPropertyKey(slot.number, i));
+			}
+			slots.used.clear(slot.number);
+			iterator.remove();
+			removed++;
+			changes++;
+		}
+		return changes;
+	}
+
+	/**
+	 * Retrieves {@link #properties}
+	 *
+	 * @return the properties of every indexed item, by group with its slot number and metric
+	 */
+	public Map<String, String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Retrieves the slot of an item
+	 *
+	 * @param type the peripheral type
+	 * @param identity identity of the item
+	 * @return the slot number from 1, or 0 if the item is not indexed
+	 */
+	public synchronized int getSlot(PeripheralType type, String identity) {
+		Slot slot = types[type.ordinal()].slots.get(identity);
+		return slot == null ? 0 : slot.number;
+	}
+
+	/**
+	 * Retrieves {@link #added}
+	 *
+	 * @return number of items added since the last {@link #clear()}
+	 */
+	public synchronized int getAdded() {
+		return added;
+	}
+
+	/**
+	 * Retrieves {@link #removed}
+	 *
+	 * @return number of items removed since the last {@link #clear()}
+	 */
+	public synchronized int getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * Retrieves {@link #updated}
+	 *
+	 * @return number of items updated since the last {@link #clear()}
+	 */
+	public synchronized int getUpdated() {
+		return updated;
+	}
+
+	/**
+	 * Drops every item and slot
+	 */
+	public synchronized void clear() {
+		properties.clear();
+		for (TypeSlots slots : types) {
+			slots.slots.clear();
+			slots.used.clear();
+		}
+		added = 0;
+		removed = 0;
+		updated = 0;
+	}
+
+	/**
+	 * Writes the values of an item that differ from its last ones into {@link #properties}
+	 *
+	 * @param type the peripheral type
+	 * @param slot the slot of the item
+	 * @param values the new values
+	 * @return true if any value changed
+	 */
+	private boolean write(PeripheralType type, Slot slot, String[] values) {
+		boolean changed = false;
+		for (int i = 0; i < values.length; i++) {
+			String value = values[i];
+			if (value == null ? slot.values[i] == null : value.equals(slot.values[i])) {
+				continue;
+			}
+			slot.values[i] = value;
+			if (value == null) {
+				properties.remove(type.getPropertyKey(slot.number, i));
+			} else {
+				properties.put(type.getPropertyKey(slot.number, i), value);
+			}
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Retrieves the identity of an item, its position if it has none
+	 */
+	private static String identityOf(PeripheralType type, String[] values, int position) {
+		int index = type.getIdentityIndex();
+		if (index >= 0 && values[index] != null && !values[index].isEmpty()) {
+			return values[index];
+		}
+		return "#" + position;
+	}
+
+	/**
+	 * Slots of the items of a peripheral type
+	 */
+	private static class TypeSlots {
+		private final Map<String, Slot> slots = new HashMap<>();
+		private final BitSet used = new BitSet();
+	}
+
+	/**
+	 * Slot number and last values of an item
+	 */
+	private static class Slot {
+		private final int number;
+		private final String[] values;
+
+		Slot(int number, String[] values) {
+			this.number = number;
+			this.values = values;
+		}
+	}
+}
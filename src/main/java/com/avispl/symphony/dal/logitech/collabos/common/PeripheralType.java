@@ -4,8 +4,13 @@
 
 package com.avispl.symphony.dal.logitech.collabos.common;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import com.avispl.symphony.dal.logitech.collabos.common.metric.DisplayEnum;
 import com.avispl.symphony.dal.logitech.collabos.common.metric.IPControllerEnum;
+import com.avispl.symphony.dal.logitech.collabos.common.metric.PeripheralMetric;
 import com.avispl.symphony.dal.logitech.collabos.common.metric.RemoteEnum;
 import com.avispl.symphony.dal.logitech.collabos.common.metric.SightEnum;
 import com.avispl.symphony.dal.logitech.collabos.common.metric.USBControllerEnum;
@@ -19,22 +24,46 @@ import com.avispl.symphony.dal.logitech.collabos.common.metric.USBDeviceEnum;
  * @since 1.1.0
  */
 public enum PeripheralType {
-	DISPLAY("Display", "displays", DisplayEnum.class),
-	IP_CONTROLLER("IPController", "ipControllers", IPControllerEnum.class),
-	REMOTE("Remote", "remotes", RemoteEnum.class),
-	SIGHT("Sight", "sights", SightEnum.class),
-	USB_CONTROLLER("USBController", "usbControllers", USBControllerEnum.class),
-	USB_DEVICES("USBDevice", "usbDevices", USBDeviceEnum.class),
+	DISPLAY("Display", "displays", DisplayEnum.values()),
+	IP_CONTROLLER("IPController", "ipControllers", IPControllerEnum.values()),
+	REMOTE("Remote", "remotes", RemoteEnum.values()),
+	SIGHT("Sight", "sights", SightEnum.values()),
+	USB_CONTROLLER("USBController", "usbControllers", USBControllerEnum.values()),
+	USB_DEVICES("USBDevice", "usbDevices", USBDeviceEnum.values()),
 	;
 	private final String name;
 	private final String value;
-	private final Class<? extends Enum<?>> enumClass;
-
+	private final String[] fieldNames;
+	private final String[] propertyNames;
+	private final Map<String, Integer> metricIndexes = new HashMap<>();
+	private final int identityIndex;
+	private volatile String[][] propertyKeys = new String[0][];
 
-	PeripheralType(String name, String value, Class<? extends Enum<?>> enumClass) {
+	/**
+	 * Constructor of PeripheralType, compiles the metrics into a flat extraction table
+	 *
+	 * @param name the group name of the peripheral
+	 * @param value the field name of the peripheral array in the response
+	 * @param metrics the metrics of a peripheral item
+	 */
+	PeripheralType(String name, String value, PeripheralMetric[] metrics) {
 		this.name = name;
 		this.value = value;
-		this.enumClass = enumClass;
+		this.fieldNames = new String[metrics.length];
+		this.propertyNames = new String[metrics.length];
+		for (int i = 0; i < metrics.length; i++) {
+			fieldNames[i] = metrics[i].getName();
+			propertyNames[i] = metrics[i].getValue();
+			metricIndexes.put(fieldNames[i], i);
+		}
+		int identity = -1;
+		for (String field : new String[] { "id", "serialNumber", "macAddress" }) {
+			Integer index = metricIndexes.get(field);
+			if (identity < 0 && index != null) {
+				identity = index;
+			}
+		}
+		this.identityIndex = identity;
 	}
 
 	/**
@@ -56,11 +85,91 @@ public enum PeripheralType {
 	}
 
 	/**
-	 * Retrieves {@link #enumClass}
+	 * Retrieves the number of metrics of a peripheral item
+	 *
+	 * @return number of metrics
+	 */
+	public int getMetricCount() {
+		return fieldNames.length;
+	}
+
+	/**
+	 * Retrieves the field name of a metric in the peripherals response
+	 *
+	 * @param index index of the metric
+	 * @return the field name
+	 */
+	public String getFieldName(int index) {
+		return fieldNames[index];
+	}
+
+	/**
+	 * Retrieves the index of a metric by its field name in the peripherals response
+	 *
+	 * @param fieldName the field name
+	 * @return index of the metric, or -1 if the field is not a metric
+	 */
+	public int getMetricIndex(String fieldName) {
+		Integer index = metricIndexes.get(fieldName);
+		return index == null ? -1 : index;
+	}
+
+	/**
+	 * Retrieves the index of the metric identifying an item across responses, the first of its id, serial number
+	 * and MAC address metrics
+	 *
+	 * @return index of the metric, or -1 if the items of this type have no identity
+	 */
+	public int getIdentityIndex() {
+		return identityIndex;
+	}
+
+	/**
+	 * Retrieves the statistics property name of a metric
+	 *
+	 * @param index index of the metric
+	 * @return the property name
+	 */
+	public String getPropertyName(int index) {
+		return propertyNames[index];
+	}
+
+	/**
+	 * Retrieves the statistics property of a metric of a peripheral item, including its group.
+	 * Keys are built the first time an item index is seen and reused afterwards.
+	 *
+	 * @param item index of the item from 1, or 0 if the item is the only one of its type and its group has no index
+	 * @param index index of the metric
+	 * @return the property key
+	 */
+	public String getPropertyKey(int item, int index) {
+		String[][] keys = propertyKeys;
+		if (item >= keys.length) {
+			keys = growPropertyKeys(item);
+		}
+		return keys[item][index];
+	}
+
+	/**
+	 * Builds the property keys of the items up to the given index
 	 *
-	 * @return value of {@link #enumClass}
+	 * @param item highest index of the item to build
+	 * @return the grown key table
 	 */
-	public Class<? extends Enum<?>> getEnumClass() {
-		return enumClass;
+	private synchronized String[][] growPropertyKeys(int item) {
+		String[][] keys = propertyKeys;
+		if (item < keys.length) {
+			return keys;
+		}
+		String[][] grown = Arrays.copyOf(keys, Math.max(item + 1, keys.length * 2));
+		for (int i = keys.length; i < grown.length; i++) {
+			String group = name + (i == 0 ? "" : String.valueOf(i)) + "#";
+			grown[i] = new String[propertyNames.length];
+			for (int j = 0; j < propertyNames.length; j++) {
+				grown[i][j] = group + propertyNames[j];
+			}
+		}
+		propertyKeys = grown;
+		return grown;
 	}
 }
@@ -11,14 +11,14 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 /**
- * Ping mode - ICMP vs TCP
+ * Ping mode - ICMP vs TCP vs HTTP, or DUAL running ICMP and TCP probes side by side
  *
  * @author Harry / Symphony Dev Team<br>
  * Created on 3/19/2024
  * @since 1.1.0
  */
 public enum PingMode {
-	ICMP("ICMP"), TCP("TCP");
+	ICMP("ICMP"), TCP("TCP"), HTTP("HTTP"), DUAL("DUAL");
 	private static final Log logger = LogFactory.getLog(PingMode.class);
 
 	private String mode;
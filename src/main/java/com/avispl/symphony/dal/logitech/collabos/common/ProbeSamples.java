@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+/**
+ * Fixed-size ring buffer of the last probe results of a ping, summarized as min, max, average, jitter and loss.
+ * A lost probe is stored as -1, and neither recording nor summarizing allocates.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class ProbeSamples {
+	public static final int MIN = 0;
+	public static final int MAX = 1;
+	public static final int AVERAGE = 2;
+	public static final int JITTER = 3;
+
+	private final long[] samples;
+	private int count;
+	private int next;
+
+	/**
+	 * Constructor of ProbeSamples
+	 *
+	 * @param size number of probes kept
+	 */
+	public ProbeSamples(int size) {
+		samples = new long[Math.max(1, size)];
+	}
+
+	/**
+	 * Records a successful probe
+	 *
+	 * @param nanos round trip of the probe in nanoseconds
+	 */
+	public synchronized void record(long nanos) {
+		samples[next] = Math.max(0, nanos);
+		advance();
+	}
+
+	/**
+	 * Records a probe that got no answer
+	 */
+	public synchronized void recordLoss() {
+		samples[next] = -1;
+		advance();
+	}
+
+	/**
+	 * Retrieves {@link #count}
+	 *
+	 * @return number of probes in the buffer
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * Computes the share of lost probes in the buffer
+	 *
+	 * @return loss in percent, 0 if the buffer is empty
+	 */
+	public synchronized double getLossPercentage() {
+		if (count == 0) {
+			return 0;
+		}
+		int lost = 0;
+		for (int i = 0; i < count; i++) {
+			if (samples[i] < 0) {
+				lost++;
+			}
+		}
+		return lost * 100.0 / count;
+	}
+
+	/**
+	 * Summarizes the successful probes into the given array at {@link #MIN}, {@link #MAX}, {@link #AVERAGE} and {@link #JITTER}.
+	 * Jitter is the mean difference between consecutive successful probes, in the order they were recorded.
+	 *
+	 * @param summary array of at least 4 values to fill
+	 * @return false if no probe succeeded and the summary was not filled
+	 */
+	public synchronized boolean summarize(long[] summary) {
+		long min = Long.MAX_VALUE;
+		long max = 0;
+		long total = 0;
+		long variation = 0;
+		long previous = -1;
+		int received = 0;
+		int oldest = count < samples.length ? 0 : next;
+		for (int i = 0; i < count; i++) {
+			long sample = samples[(oldest + i) % samples.length];
+			if (sample < 0) {
+				continue;
+			}
+			min = Math.min(min, sample);
+			max = Math.max(max, sample);
+			total += sample;
+			if (previous >= 0) {
+				variation += Math.abs(sample - previous);
+			}
+			previous = sample;
+			received++;
+		}
+		if (received == 0) {
+			return false;
+		}
+		summary[MIN] = min;
+		summary[MAX] = max;
+		summary[AVERAGE] = total / received;
+		summary[JITTER] = received > 1 ? variation / (received - 1) : 0;
+		return true;
+	}
+
+	/**
+	 * Drops every probe
+	 */
+	public synchronized void clear() {
+		count = 0;
+		next = 0;
+	}
+
+	private void advance() {
+		next = (next + 1) % samples.length;
+		if (count < samples.length) {
+			count++;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring buffer of the last samples of a measurement, summarized as p50, p95 and max.
+ * Recording and summarizing reuse preallocated arrays, so neither allocates.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class RollingWindow {
+	public static final int P50 = 0;
+	public static final int P95 = 1;
+	public static final int MAX = 2;
+
+	private long[] samples;
+	private long[] sorted;
+	private int count;
+	private int next;
+	private long last;
+
+	/**
+	 * Constructor of RollingWindow
+	 *
+	 * @param size number of samples kept
+	 */
+	public RollingWindow(int size) {
+		resize(size);
+	}
+
+	/**
+	 * Changes the number of samples kept, dropping the current ones
+	 *
+	 * @param size number of samples kept
+	 */
+	public synchronized void resize(int size) {
+		samples = new long[Math.max(1, size)];
+		sorted = new long[samples.length];
+		count = 0;
+		next = 0;
+		last = 0;
+	}
+
+	/**
+	 * Records a sample, replacing the oldest one once the window is full
+	 *
+	 * @param value the sample
+	 */
+	public synchronized void record(long value) {
+		samples[next] = value;
+		next = (next + 1) % samples.length;
+		if (count < samples.length) {
+			count++;
+		}
+		last = value;
+	}
+
+	/**
+	 * Retrieves {@link #count}
+	 *
+	 * @return number of samples in the window
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * Retrieves {@link #last}
+	 *
+	 * @return the last recorded sample
+	 */
+	public synchronized long getLast() {
+		return last;
+	}
+
+	/**
+	 * Summarizes the window into the given array at {@link #P50}, {@link #P95} and {@link #MAX}, using nearest rank
+	 *
+	 * @param summary array of at least 3 values to fill
+	 * @return false if the window is empty and the summary was not filled
+	 */
+	public synchronized boolean summarize(long[] summary) {
+		if (count == 0) {
+			return false;
+		}
+		System.arraycopy(samples, 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		summary[P50] = sorted[rank(0.5)];
+		summary[P95] = sorted[rank(0.95)];
+		summary[MAX] = sorted[count - 1];
+		return true;
+	}
+
+	/**
+	 * Drops every sample
+	 */
+	public synchronized void clear() {
+		count = 0;
+		next = 0;
+		last = 0;
+	}
+
+	private int rank(double percentile) {
+		return Math.max(0, (int) Math.ceil(percentile * count) - 1);
+	}
+}
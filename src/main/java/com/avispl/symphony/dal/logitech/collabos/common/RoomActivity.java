@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+/**
+ * Activity of a room derived from its latest insights, driving the adaptive polling intervals
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public enum RoomActivity {
+	ACTIVE("Active"),
+	VACANT("Vacant"),
+	UNKNOWN("Unknown"),
+	;
+	private static final String IDLE_STATE = "IDLE";
+
+	private final String name;
+
+	/**
+	 * Constructor of RoomActivity
+	 *
+	 * @param name is the name of the activity in the statistics
+	 */
+	RoomActivity(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Derives the activity of a room. The room is active when the device is not idle, for example in a call, or when people
+	 * are counted in it. It is vacant when nobody is counted and the device is idle or its state is unknown. The occupancy
+	 * count is ignored when the occupancy mode is off or unknown, and without it an idle room is of unknown activity.
+	 *
+	 * @param occupancyCount the latest occupancy count, null if unknown
+	 * @param occupancyMode the latest occupancy mode, null if unknown
+	 * @param deviceState the latest device state, null if unknown
+	 * @return the activity of the room
+	 */
+	public static RoomActivity of(String occupancyCount, String occupancyMode, String deviceState) {
+		boolean stateKnown = isKnown(deviceState);
+		if (stateKnown && !IDLE_STATE.equalsIgnoreCase(deviceState)) {
+			return ACTIVE;
+		}
+		if (!isKnown(occupancyMode) || "OFF".equalsIgnoreCase(occupancyMode) || "DISABLED".equalsIgnoreCase(occupancyMode) || !isKnown(occupancyCount)) {
+			return UNKNOWN;
+		}
+		try {
+			return Integer.parseInt(occupancyCount.trim()) > 0 ? ACTIVE : VACANT;
+		} catch (NumberFormatException e) {
+			return UNKNOWN;
+		}
+	}
+
+	private static boolean isKnown(String value) {
+		return value != null && !value.isEmpty() && !LogitechConstant.NONE.equals(value);
+	}
+}
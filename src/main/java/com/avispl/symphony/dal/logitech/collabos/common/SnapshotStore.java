@@ -0,0 +1,303 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary file holding the last known state of a device: its statistics, the last good result of every command and its token.
+ * A snapshot is written to a temporary file that is forced to disk and moved over the previous one, so a reader never sees
+ * a partial file, and it is read at once into a heap buffer, so no mapping outlives the read. The file is only readable by its owner where the file
+ * system supports POSIX permissions, since it holds the token.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class SnapshotStore {
+	private static final int MAGIC = 0x4C43534E;
+	private static final int VERSION = 1;
+	private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+	private final Path file;
+
+	/**
+	 * Constructor of SnapshotStore
+	 *
+	 * @param file path of the snapshot file
+	 */
+	public SnapshotStore(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * Retrieves {@link #file}
+	 *
+	 * @return value of {@link #file}
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Writes a snapshot, replacing the previous one atomically
+	 *
+	 * @param snapshot the snapshot to write
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public synchronized void write(Snapshot snapshot) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(snapshot.getSavedAt());
+			writeString(out, snapshot.getToken());
+			out.writeLong(snapshot.getTokenTime());
+			out.writeLong(snapshot.getTokenLifetime());
+			out.writeInt(snapshot.getData().size());
+			for (Map.Entry<LogitechCommand, Map<String, String>> entry : snapshot.getData().entrySet()) {
+				writeString(out, entry.getKey().name());
+				writeMap(out, entry.getValue());
+			}
+			writeMap(out, snapshot.getStatistics());
+		}
+		Path directory = file.toAbsolutePath().getParent();
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		Files.deleteIfExists(temporary);
+		try (FileChannel channel = openOwnerOnly(temporary)) {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		try {
+			Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads the snapshot
+	 *
+	 * @return the snapshot, or null if there is none
+	 * @throws IOException if the snapshot cannot be read or is corrupted
+	 */
+	public synchronized Snapshot read() throws IOException {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+			if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				throw new IOException("Unsupported snapshot " + file);
+			}
+			Snapshot snapshot = new Snapshot();
+			snapshot.setSavedAt(buffer.getLong());
+			snapshot.setToken(readString(buffer));
+			snapshot.setTokenTime(buffer.getLong());
+			snapshot.setTokenLifetime(buffer.getLong());
+			int commands = buffer.getInt();
+			for (int i = 0; i < commands; i++) {
+				String name = readString(buffer);
+				Map<String, String> data = readMap(buffer);
+				for (LogitechCommand command : LogitechCommand.values()) {
+					if (command.name().equals(name)) {
+						snapshot.getData().put(command, data);
+					}
+				}
+			}
+			snapshot.getStatistics().putAll(readMap(buffer));
+			return snapshot;
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw new IOException("Corrupted snapshot " + file, e);
+		}
+	}
+
+	/**
+	 * Deletes the snapshot
+	 *
+	 * @throws IOException if the snapshot cannot be deleted
+	 */
+	public synchronized void delete() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private static FileChannel openOwnerOnly(Path path) throws IOException {
+		Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		try {
+			return FileChannel.open(path, options, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+		} catch (UnsupportedOperationException e) {
+			return FileChannel.open(path, options);
+		}
+	}
+
+	private static void writeMap(DataOutputStream out, Map<String, String> map) throws IOException {
+		out.writeInt(map.size());
+		for (Map.Entry<String, String> entry : map.entrySet()) {
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readMap(ByteBuffer buffer) {
+		int size = buffer.getInt();
+		if (size < 0 || size > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid map size " + size);
+		}
+		Map<String, String> map = new HashMap<>(size * 4 / 3 + 1);
+		for (int i = 0; i < size; i++) {
+			map.put(readString(buffer), readString(buffer));
+		}
+		return map;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid string length " + length);
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Last known state of a device
+	 */
+	public static class Snapshot {
+		private long savedAt;
+		private String token;
+		private long tokenTime;
+		private long tokenLifetime;
+		private final Map<LogitechCommand, Map<String, String>> data = new EnumMap<>(LogitechCommand.class);
+		private final Map<String, String> statistics = new HashMap<>();
+
+		/**
+		 * Retrieves {@link #savedAt}
+		 *
+		 * @return time the snapshot was taken in milliseconds
+		 */
+		public long getSavedAt() {
+			return savedAt;
+		}
+
+		/**
+		 * Sets {@link #savedAt} value
+		 *
+		 * @param savedAt time the snapshot was taken in milliseconds
+		 */
+		public void setSavedAt(long savedAt) {
+			this.savedAt = savedAt;
+		}
+
+		/**
+		 * Retrieves {@link #token}
+		 *
+		 * @return value of {@link #token}, may be null
+		 */
+		public String getToken() {
+			return token;
+		}
+
+		/**
+		 * Sets {@link #token} value
+		 *
+		 * @param token new value of {@link #token}
+		 */
+		public void setToken(String token) {
+			this.token = token;
+		}
+
+		/**
+		 * Retrieves {@link #tokenTime}
+		 *
+		 * @return time the token was obtained in milliseconds
+		 */
+		public long getTokenTime() {
+			return tokenTime;
+		}
+
+		/**
+		 * Sets {@link #tokenTime} value
+		 *
+		 * @param tokenTime time the token was obtained in milliseconds
+		 */
+		public void setTokenTime(long tokenTime) {
+			this.tokenTime = tokenTime;
+		}
+
+		/**
+		 * Retrieves {@link #tokenLifetime}
+		 *
+		 * @return lifetime of the token in milliseconds
+		 */
+		public long getTokenLifetime() {
+			return tokenLifetime;
+		}
+
+		/**
+		 * Sets {@link #tokenLifetime} value
+		 *
+		 * @param tokenLifetime lifetime of the token in milliseconds
+		 */
+		public void setTokenLifetime(long tokenLifetime) {
+			this.tokenLifetime = tokenLifetime;
+		}
+
+		/**
+		 * Retrieves {@link #data}
+		 *
+		 * @return the last good result of every command
+		 */
+		public Map<LogitechCommand, Map<String, String>> getData() {
+			return data;
+		}
+
+		/**
+		 * Retrieves {@link #statistics}
+		 *
+		 * @return the last statistics
+		 */
+		public Map<String, String> getStatistics() {
+			return statistics;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * TCP ping measuring the time to open a connection with non-blocking channels.
+ * Sequential attempts get an equal share of the ping timeout each, so a lost attempt does not use up the time of the
+ * next ones and a device that does not answer costs the ping timeout and no more. Concurrent attempts share the whole timeout.
+ * The resolved address is cached for {@link #addressTtl} milliseconds.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class TcpPinger {
+	/**
+	 * Time in milliseconds a resolved address is reused
+	 */
+	private long addressTtl = LogitechConstant.DEFAULT_PING_ADDRESS_TTL * 1000;
+
+	private String cachedHost;
+	private InetAddress cachedAddress;
+	private long resolvedAt;
+
+	/**
+	 * Retrieves {@link #addressTtl}
+	 *
+	 * @return value of {@link #addressTtl}
+	 */
+	public synchronized long getAddressTtl() {
+		return addressTtl;
+	}
+
+	/**
+	 * Sets {@link #addressTtl} value
+	 *
+	 * @param addressTtl time in milliseconds a resolved address is reused, 0 to resolve on every ping
+	 */
+	public synchronized void setAddressTtl(long addressTtl) {
+		this.addressTtl = addressTtl;
+	}
+
+	/**
+	 * Resolves a host, reusing the cached address while it is younger than {@link #addressTtl}
+	 *
+	 * @param host host name or address
+	 * @return the resolved address
+	 * @throws UnknownHostException if the host cannot be resolved
+	 */
+	public synchronized InetAddress resolve(String host) throws UnknownHostException {
+		long now = System.currentTimeMillis();
+		if (cachedAddress == null || !host.equals(cachedHost) || now - resolvedAt >= addressTtl) {
+			cachedAddress = InetAddress.getByName(host);
+			cachedHost = host;
+			resolvedAt = now;
+		}
+		return cachedAddress;
+	}
+
+	/**
+	 * Drops the cached address so that the next ping resolves the host again
+	 */
+	public synchronized void invalidate() {
+		cachedAddress = null;
+		cachedHost = null;
+	}
+
+	/**
+	 * Opens and closes TCP connections to a device
+	 *
+	 * @param host host of the device
+	 * @param port port of the device
+	 * @param attempts number of connections to open
+	 * @param timeout overall budget of the attempts in milliseconds, split evenly between sequential attempts
+	 * @param concurrent true to open every connection at once, false to open them one after another
+	 * @return connection time of every attempt in nanoseconds, -1 for the attempts that did not complete within their budget
+	 * @throws UnknownHostException if the host cannot be resolved
+	 * @throws java.net.ConnectException if the device refuses the connection
+	 * @throws IOException if a channel cannot be opened
+	 */
+	public long[] ping(String host, int port, int attempts, int timeout, boolean concurrent) throws IOException {
+		InetSocketAddress address = new InetSocketAddress(resolve(host), port);
+		long[] results = new long[attempts];
+		Arrays.fill(results, -1);
+		long budget = timeout * 1000000L;
+		boolean completed = true;
+		try (Selector selector = Selector.open()) {
+			try {
+				if (concurrent) {
+					long deadline = System.nanoTime() + budget;
+					int pending = 0;
+					for (int i = 0; i < attempts; i++) {
+						pending += connect(selector, address, i, results);
+					}
+					completed = await(selector, pending, deadline, results);
+				} else {
+					budget /= Math.max(1, attempts);
+					for (int i = 0; i < attempts; i++) {
+						long deadline = System.nanoTime() + budget;
+						if (!await(selector, connect(selector, address, i, results), deadline, results)) {
+							completed = false;
+							cancel(selector);
+						}
+					}
+				}
+			} finally {
+				for (SelectionKey key : selector.keys()) {
+					key.channel().close();
+				}
+			}
+		} catch (IOException e) {
+			invalidate();
+			throw e;
+		}
+		if (!completed) {
+			invalidate();
+		}
+		return results;
+	}
+
+	/**
+	 * Starts a connection attempt
+	 *
+	 * @param selector selector the pending connection is registered with
+	 * @param address address of the device
+	 * @param index index of the attempt
+	 * @param results connection times, updated if the connection completes immediately
+	 * @return 1 if the connection is pending, 0 if it completed immediately
+	 * @throws IOException if the channel cannot be opened or the connection is refused
+	 */
+	private int connect(Selector selector, InetSocketAddress address, int index, long[] results) throws IOException {
+		SocketChannel channel = SocketChannel.open();
+		try {
+			channel.configureBlocking(false);
+			long start = System.nanoTime();
+			if (channel.connect(address)) {
+				results[index] = System.nanoTime() - start;
+				channel.close();
+				return 0;
+			}
+			channel.register(selector, SelectionKey.OP_CONNECT, new Attempt(index, start));
+			return 1;
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits for the pending connections until the deadline
+	 *
+	 * @param selector selector the pending connections are registered with
+	 * @param pending number of pending connections
+	 * @param deadline deadline from {@link System#nanoTime()}
+	 * @param results connection times, updated as the connections complete
+	 * @return true if every pending connection completed before the deadline
+	 * @throws IOException if a connection is refused
+	 */
+	private boolean await(Selector selector, int pending, long deadline, long[] results) throws IOException {
+		while (pending > 0) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return false;
+			}
+			selector.select(Math.max(1, remaining / 1000000));
+			long now = System.nanoTime();
+			Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				keys.remove();
+				SocketChannel channel = (SocketChannel) key.channel();
+				if (channel.finishConnect()) {
+					Attempt attempt = (Attempt) key.attachment();
+					results[attempt.index] = now - attempt.start;
+					key.cancel();
+					channel.close();
+					pending--;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Drops the connections still pending on a selector
+	 *
+	 * @param selector selector the pending connections are registered with
+	 * @throws IOException if a channel cannot be closed
+	 */
+	private void cancel(Selector selector) throws IOException {
+		for (SelectionKey key : selector.keys()) {
+			key.cancel();
+			key.channel().close();
+		}
+	}
+
+	/**
+	 * Pending connection attempt
+	 */
+	private static class Attempt {
+		private final int index;
+		private final long start;
+
+		Attempt(int index, long start) {
+			this.index = index;
+			this.start = start;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-size log of the state changes of a set of properties. Every change is packed into a single long holding its time
+ * in milliseconds, the index of the property and the id of the new state in an interned state dictionary, so the memory
+ * of the log is bounded by its capacity and the size of the dictionary. Once the dictionary is full, unknown states are
+ * recorded as {@link #OTHER_STATE}.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public class TransitionLog {
+	/**
+	 * State recorded once the dictionary is full
+	 */
+	public static final String OTHER_STATE = "Other";
+
+	/**
+	 * Highest number of properties the log can track
+	 */
+	public static final int MAX_PROPERTIES = 16;
+
+	private static final int STATE_BITS = 16;
+	private static final int PROPERTY_BITS = 4;
+	private static final int TIME_SHIFT = STATE_BITS + PROPERTY_BITS;
+
+	private final long[] entries;
+	private final String[] states;
+	private final Map<String, Integer> stateIds = new HashMap<>();
+	private final int[] lastStates = new int[MAX_PROPERTIES];
+	private int stateCount = 1;
+	private long next;
+
+	/**
+	 * Constructor of TransitionLog
+	 *
+	 * @param capacity number of changes kept
+	 * @param dictionarySize number of distinct states kept, {@link #OTHER_STATE} included, at most 65536
+	 */
+	public TransitionLog(int capacity, int dictionarySize) {
+		this.entries = new long[Math.max(1, capacity)];
+		this.states = new String[Math.max(2, Math.min(dictionarySize, 1 << STATE_BITS))];
+		this.states[0] = OTHER_STATE;
+		clear();
+	}
+
+	/**
+	 * Records the state of a property, logging a change if it differs from the last state recorded for the property.
+	 * The first state of a property is its baseline and is not logged.
+	 *
+	 * @param property index of the property, below {@link #MAX_PROPERTIES}
+	 * @param state the state
+	 * @param time time the state was seen in milliseconds
+	 * @return true if a change was logged
+	 */
+	public synchronized boolean record(int property, String state, long time) {
+		int id = intern(state);
+		int last = lastStates[property];
+		lastStates[property] = id;
+		if (last < 0 || last == id) {
+			return false;
+		}
+		entries[(int) (next % entries.length)] = time << TIME_SHIFT | (long) property << STATE_BITS | id;
+		next++;
+		return true;
+	}
+
+	/**
+	 * Counts the logged changes of a property since a given time
+	 *
+	 * @param property index of the property
+	 * @param state the new state of the changes to count, null to count every change
+	 * @param since oldest time of the changes to count in milliseconds
+	 * @return number of changes
+	 */
+	public synchronized int count(int property, String state, long since) {
+		int id = -1;
+		if (state != null) {
+			Integer known = stateIds.get(state);
+			if (known == null) {
+				return 0;
+			}
+			id = known;
+		}
+		int count = 0;
+		for (long i = next - 1; i >= Math.max(0, next - entries.length); i--) {
+			long entry = entries[(int) (i % entries.length)];
+			if (getTime(entry) < since) {
+				break;
+			}
+			if (getProperty(entry) == property && (id < 0 || (entry & 0xFFFF) == id)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Copies the most recent changes into the given array, newest first
+	 *
+	 * @param recent array receiving the changes
+	 * @return number of changes copied
+	 */
+	public synchronized int copyRecent(long[] recent) {
+		int size = (int) Math.min(recent.length, Math.min(next, entries.length));
+		for (int i = 0; i < size; i++) {
+			recent[i] = entries[(int) ((next - 1 - i) % entries.length)];
+		}
+		return size;
+	}
+
+	/**
+	 * Retrieves the state of a logged change
+	 *
+	 * @param entry the change, as copied by {@link #copyRecent(long[])}
+	 * @return the new state
+	 */
+	public synchronized String getState(long entry) {
+		return states[(int) (entry & 0xFFFF)];
+	}
+
+	/**
+	 * Retrieves the time of a logged change
+	 *
+	 * @param entry the change
+	 * @return time of the change in milliseconds
+	 */
+	public static long getTime(long entry) {
+		return entry >>> TIME_SHIFT;
+	}
+
+	/**
+	 * Retrieves the property of a logged change
+	 *
+	 * @param entry the change
+	 * @return index of the property
+	 */
+	public static int getProperty(long entry) {
+		return (int) (entry >>> STATE_BITS) & (MAX_PROPERTIES - 1);
+	}
+
+	/**
+	 * Retrieves the number of logged changes kept
+	 *
+	 * @return number of changes
+	 */
+	public synchronized int getSize() {
+		return (int) Math.min(next, entries.length);
+	}
+
+	/**
+	 * Drops every change, the baselines and the dictionary
+	 */
+	public synchronized void clear() {
+		next = 0;
+		for (int i = 1; i < stateCount; i++) {
+			states[i] = null;
+		}
+		stateCount = 1;
+		stateIds.clear();
+		stateIds.put(OTHER_STATE, 0);
+		for (int i = 0; i < lastStates.length; i++) {
+			lastStates[i] = -1;
+		}
+	}
+
+	/**
+	 * Retrieves the id of a state, adding it to the dictionary if there is room left
+	 *
+	 * @param state the state
+	 * @return id of the state, 0 if the dictionary is full
+	 */
+	private int intern(String state) {
+		Integer id = stateIds.get(state);
+		if (id != null) {
+			return id;
+		}
+		if (stateCount == states.length) {
+			return 0;
+		}
+		states[stateCount] = state;
+		stateIds.put(state, stateCount);
+		return stateCount++;
+	}
+}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.logitech.collabos.common.metric;
  * Created on 5/9/2024
  * @since 1.1.0
  */
-public enum DisplayEnum {
+public enum DisplayEnum implements PeripheralMetric {
 	ID("id", "ID"),
 	HDMI_PORT("hdmiPort", "HDMIPort"),
 	HEIGHT("height", "Height(px)"),
@@ -37,6 +37,7 @@ public enum DisplayEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -46,6 +47,7 @@ public enum DisplayEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.logitech.collabos.common.metric;
  * Created on 5/9/2024
  * @since 1.1.0
  */
-public enum IPControllerEnum {
+public enum IPControllerEnum implements PeripheralMetric {
 	NAME("name", "Name"),
 	MANUFACTURER("manufacturer", "Manufacturer"),
 	FIRMWARE_VERSION("firmwareVersion", "FirmwareVersion"),
@@ -38,6 +38,7 @@ public enum IPControllerEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -47,6 +48,7 @@ public enum IPControllerEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
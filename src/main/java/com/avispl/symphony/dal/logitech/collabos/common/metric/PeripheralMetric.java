@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.logitech.collabos.common.metric;
+
+/**
+ * Descriptor shared by the peripheral metric enums, mapping a field of a peripheral item to a statistics property.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+public interface PeripheralMetric {
+
+	/**
+	 * Retrieves the field name of the metric in the peripherals response
+	 *
+	 * @return the field name
+	 */
+	String getName();
+
+	/**
+	 * Retrieves the statistics property name of the metric
+	 *
+	 * @return the property name
+	 */
+	String getValue();
+}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.logitech.collabos.common.metric;
  * Created on 5/9/2024
  * @since 1.1.0
  */
-public enum RemoteEnum {
+public enum RemoteEnum implements PeripheralMetric {
 	MAC_ADDRESS("macAddress", "MACAddress"),
 	NAME("name", "Name"),
 	;
@@ -34,6 +34,7 @@ public enum RemoteEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -43,6 +44,7 @@ public enum RemoteEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.logitech.collabos.common.metric;
  * Created on 5/9/2024
  * @since 1.1.0
  */
-public enum SightEnum {
+public enum SightEnum implements PeripheralMetric {
 	ID("id", "ID"),
 	CAMERA_CONNECTED("cameraConnected", "CameraConnected"),
 	MICROPHONE_CONNECTED("microphoneConnected", "MicrophoneConnected"),
@@ -36,6 +36,7 @@ public enum SightEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -45,6 +46,7 @@ public enum SightEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.logitech.collabos.common.metric;
  * Created on 5/9/2024
  * @since 1.1.0
  */
-public enum USBControllerEnum {
+public enum USBControllerEnum implements PeripheralMetric {
 	NAME("name", "Name"),
 	MANUFACTURER("manufacturer", "Manufacturer"),
 	FIRMWARE_VERSION("firmwareVersion", "FirmwareVersion"),
@@ -39,6 +39,7 @@ public enum USBControllerEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -48,6 +49,7 @@ public enum USBControllerEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
@@ -11,7 +11,7 @@ package com.avispl.symphony.dal.logitech.collabos.common.metric;
  * Created on 5/9/2024
  * @since 1.1.0
  */
-public enum USBDeviceEnum {
+public enum USBDeviceEnum implements PeripheralMetric {
 	ID("id", "ID"),
 	IS_AUDIO_DEVICE("isAudioDevice", "AudioDevice"),
 	IS_VIDEO_DEVICE("isVideoDevice", "VideoDevice"),
@@ -40,6 +40,7 @@ public enum USBDeviceEnum {
 	 *
 	 * @return value of {@link #name}
 	 */
+	@Override
 	public String getName() {
 		return name;
 	}
@@ -49,6 +50,7 @@ public enum USBDeviceEnum {
 	 *
 	 * @return value of {@link #value}
 	 */
+	@Override
 	public String getValue() {
 		return value;
 	}
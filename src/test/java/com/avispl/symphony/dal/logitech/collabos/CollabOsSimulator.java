@@ -0,0 +1,677 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.logitech.collabos.common.PeripheralType;
+
+/**
+ * Local CollabOS device simulator serving signin, device, insights and peripherals over HTTP or HTTPS, with
+ * configurable latency, peripheral inventory and injected failures, so the communicator can be pointed at it unchanged.
+ * It speaks plain HTTP/1.1 over sockets, which keeps connections alive like a device would and allows real connection resets.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+final class CollabOsSimulator implements AutoCloseable {
+	static final String SIGNIN = "/api/v1/signin";
+	static final String DEVICE = "/api/v1/device";
+	static final String INSIGHTS_ROOM = "/api/v1/insights/room";
+	static final String INSIGHTS_DEVICE = "/api/v1/insights/device";
+	static final String PERIPHERALS = "/api/v1/peripherals";
+
+	private static final String KEYSTORE = "/collabos/simulator.p12";
+	private static final char[] KEYSTORE_PASSWORD = "simulator".toCharArray();
+
+	/**
+	 * Failure the simulator can inject instead of a normal response
+	 */
+	enum Failure {
+		UNAUTHORIZED,
+		SERVER_ERROR,
+		SLOW,
+		CONNECTION_RESET,
+		MALFORMED_JSON
+	}
+
+	/**
+	 * Distribution the response latency of every request is drawn from
+	 */
+	interface LatencyDistribution {
+		/**
+		 * Draws the next latency
+		 *
+		 * @param random random source
+		 * @return latency in milliseconds
+		 */
+		long nextMillis(ThreadLocalRandom random);
+
+		static LatencyDistribution none() {
+			return random -> 0;
+		}
+
+		static LatencyDistribution fixed(long millis) {
+			return random -> millis;
+		}
+
+		static LatencyDistribution uniform(long minMillis, long maxMillis) {
+			return random -> minMillis + random.nextLong(maxMillis - minMillis + 1);
+		}
+
+		static LatencyDistribution exponential(long meanMillis) {
+			return random -> Math.round(-meanMillis * Math.log(1 - random.nextDouble()));
+		}
+
+		/**
+		 * Mostly fast responses with an occasional slow one, to exercise tail latency
+		 */
+		static LatencyDistribution spiky(long baseMillis, long spikeMillis, double spikeProbability) {
+			return random -> random.nextDouble() < spikeProbability ? spikeMillis : baseMillis;
+		}
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final boolean secure;
+	private final Map<String, byte[]> responses = new ConcurrentHashMap<>();
+	private final Map<PeripheralType, Integer> peripheralCounts = new EnumMap<>(PeripheralType.class);
+	private final Map<String, Queue<Failure>> injectedFailures = new ConcurrentHashMap<>();
+	private final Map<Failure, Double> failureProbabilities = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final AtomicInteger handshakeCount = new AtomicInteger();
+	private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger heldRequests = new AtomicInteger();
+	private volatile CountDownLatch responseGate;
+	private volatile LatencyDistribution latency = LatencyDistribution.none();
+	private volatile long slowResponseMillis = 5000;
+	private volatile long tokenLifetimeMillis;
+	private volatile boolean etagEnabled;
+	private volatile String login = "admin";
+	private volatile String password = "admin";
+	private volatile String token;
+	private volatile long tokenIssuedTime;
+	private ServerSocket serverSocket;
+	private ExecutorService executor;
+	private Future<?> acceptor;
+
+	/**
+	 * Creates a simulator with the fixture responses and the fixture inventory of one display, one IP controller,
+	 * one sight and two USB devices
+	 *
+	 * @param secure true to serve HTTPS with the self-signed test certificate
+	 * @throws IOException if the fixtures cannot be loaded
+	 */
+	CollabOsSimulator(boolean secure) throws IOException {
+		this.secure = secure;
+		responses.put(DEVICE, fixture("device.json"));
+		responses.put(INSIGHTS_ROOM, fixture("insights-room.json"));
+		responses.put(INSIGHTS_DEVICE, fixture("insights-device.json"));
+		peripheralCounts.put(PeripheralType.DISPLAY, 1);
+		peripheralCounts.put(PeripheralType.IP_CONTROLLER, 1);
+		peripheralCounts.put(PeripheralType.REMOTE, 0);
+		peripheralCounts.put(PeripheralType.SIGHT, 1);
+		peripheralCounts.put(PeripheralType.USB_CONTROLLER, 0);
+		peripheralCounts.put(PeripheralType.USB_DEVICES, 2);
+		generatePeripherals();
+	}
+
+	/**
+	 * Binds the simulator to a free port on the loopback interface and starts accepting connections
+	 *
+	 * @return this simulator
+	 * @throws Exception if the server socket cannot be created
+	 */
+	CollabOsSimulator start() throws Exception {
+		InetAddress loopback = InetAddress.getByName("127.0.0.1");
+		if (secure) {
+			KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			try (InputStream inputStream = CollabOsSimulator.class.getResourceAsStream(KEYSTORE)) {
+				keyStore.load(inputStream, KEYSTORE_PASSWORD);
+			}
+			KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+			keyManagerFactory.init(keyStore, KEYSTORE_PASSWORD);
+			SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+			serverSocket = sslContext.getServerSocketFactory().createServerSocket(0, 50, loopback);
+		} else {
+			serverSocket = new ServerSocket(0, 50, loopback);
+		}
+		executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "CollabOS simulator");
+			thread.setDaemon(true);
+			return thread;
+		});
+		acceptor = executor.submit(this::accept);
+		return this;
+	}
+
+	/**
+	 * Retrieves the port the simulator listens on
+	 *
+	 * @return the local port
+	 */
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Retrieves the protocol to configure on the communicator
+	 *
+	 * @return http or https
+	 */
+	String getProtocol() {
+		return secure ? "https" : "http";
+	}
+
+	/**
+	 * Points a communicator at this simulator with its credentials
+	 *
+	 * @param communicator communicator to configure, before init
+	 */
+	void configure(LogitechCollabOsCommunicator communicator) {
+		communicator.setHost("127.0.0.1");
+		communicator.setPort(getPort());
+		communicator.setProtocol(getProtocol());
+		communicator.setLogin(login);
+		communicator.setPassword(password);
+	}
+
+	/**
+	 * Sets the credentials accepted by signin
+	 */
+	void setCredentials(String login, String password) {
+		this.login = login;
+		this.password = password;
+	}
+
+	/**
+	 * Sets {@link #latency} value
+	 */
+	void setLatency(LatencyDistribution latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Sets {@link #slowResponseMillis} value, the extra delay of a {@link Failure#SLOW} response
+	 */
+	void setSlowResponseMillis(long slowResponseMillis) {
+		this.slowResponseMillis = slowResponseMillis;
+	}
+
+	/**
+	 * Sets {@link #tokenLifetimeMillis} value, after which requests with the issued token get 401. 0 never expires.
+	 */
+	void setTokenLifetimeMillis(long tokenLifetimeMillis) {
+		this.tokenLifetimeMillis = tokenLifetimeMillis;
+	}
+
+	/**
+	 * Sets {@link #etagEnabled} value, answering with an ETag and 304 on a matching If-None-Match
+	 */
+	void setEtagEnabled(boolean etagEnabled) {
+		this.etagEnabled = etagEnabled;
+	}
+
+	/**
+	 * Sets the number of peripherals of a type and regenerates the peripherals response
+	 *
+	 * @param type peripheral type
+	 * @param count number of peripherals of that type
+	 */
+	synchronized void setPeripheralCount(PeripheralType type, int count) {
+		peripheralCounts.put(type, count);
+		generatePeripherals();
+	}
+
+	/**
+	 * Replaces the response body of a path
+	 *
+	 * @param path request path, for example {@link #DEVICE}
+	 * @param body raw response body, null to answer 404 like firmware without the endpoint
+	 */
+	void setResponse(String path, String body) {
+		if (body == null) {
+			responses.remove(path);
+		} else {
+			responses.put(path, body.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Injects a failure into the next requests of a path
+	 *
+	 * @param path request path, for example {@link #PERIPHERALS}
+	 * @param failure failure to inject
+	 * @param times number of consecutive requests to fail
+	 */
+	void injectFailure(String path, Failure failure, int times) {
+		Queue<Failure> failures = injectedFailures.computeIfAbsent(path, key -> new ConcurrentLinkedQueue<>());
+		for (int i = 0; i < times; i++) {
+			failures.add(failure);
+		}
+	}
+
+	/**
+	 * Sets the probability of a failure on every request other than signin, for load and failure-mode tests
+	 *
+	 * @param failure failure to inject
+	 * @param probability probability between 0 and 1
+	 */
+	void setFailureProbability(Failure failure, double probability) {
+		failureProbabilities.put(failure, probability);
+	}
+
+	/**
+	 * Removes every injected failure and failure probability
+	 */
+	void clearFailures() {
+		injectedFailures.clear();
+		failureProbabilities.clear();
+	}
+
+	/**
+	 * Retrieves the number of requests received on a path
+	 *
+	 * @param path request path
+	 * @return request count
+	 */
+	int getRequestCount(String path) {
+		AtomicInteger count = requestCounts.get(path);
+		return count == null ? 0 : count.get();
+	}
+
+	/**
+	 * Retrieves the number of accepted connections
+	 *
+	 * @return connection count
+	 */
+	int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	/**
+	 * Retrieves the number of completed TLS handshakes
+	 *
+	 * @return handshake count
+	 */
+	int getHandshakeCount() {
+		return handshakeCount.get();
+	}
+
+	/**
+	 * Closes the open keep-alive connections, as a device dropping its idle connections
+	 *
+	 * @throws IOException if a connection cannot be closed
+	 */
+	void closeConnections() throws IOException {
+		for (Socket socket : openSockets) {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Holds the responses to the next requests until {@link #releaseResponses()} is called, for at most 10 seconds
+	 */
+	void holdResponses() {
+		responseGate = new CountDownLatch(1);
+	}
+
+	/**
+	 * Answers the requests held since {@link #holdResponses()} and stops holding the next ones
+	 */
+	void releaseResponses() {
+		CountDownLatch gate = responseGate;
+		responseGate = null;
+		if (gate != null) {
+			gate.countDown();
+		}
+	}
+
+	/**
+	 * Retrieves the number of requests currently held by {@link #holdResponses()}
+	 *
+	 * @return held request count
+	 */
+	int getHeldRequests() {
+		return heldRequests.get();
+	}
+
+	/**
+	 * Expires the current token, so the next authenticated request gets 401
+	 */
+	void expireToken() {
+		token = null;
+	}
+
+	/**
+	 * Stops listening and waits for the accepting thread to exit, as the port keeps accepting connections until it does
+	 */
+	@Override
+	public void close() throws IOException {
+		if (serverSocket != null) {
+			serverSocket.close();
+		}
+		if (acceptor != null) {
+			try {
+				acceptor.get(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (ExecutionException | TimeoutException e) {
+				// The port is released when the thread exits
+			}
+		}
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+	}
+
+	private void accept() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connectionCount.incrementAndGet();
+				openSockets.add(socket);
+				if (socket instanceof SSLSocket) {
+					((SSLSocket) socket).addHandshakeCompletedListener(event -> handshakeCount.incrementAndGet());
+				}
+				executor.execute(() -> serve(socket));
+			} catch (IOException e) {
+				// closed
+			}
+		}
+	}
+
+	/**
+	 * Serves the requests of a keep-alive connection until the client closes it
+	 */
+	private void serve(Socket socket) {
+		try {
+			socket.setSoTimeout(60000);
+			InputStream inputStream = new BufferedInputStream(socket.getInputStream());
+			OutputStream outputStream = socket.getOutputStream();
+			while (true) {
+				String requestLine = readLine(inputStream);
+				if (requestLine == null) {
+					return;
+				}
+				Map<String, String> headers = new HashMap<>();
+				String header;
+				while ((header = readLine(inputStream)) != null && !header.isEmpty()) {
+					int colon = header.indexOf(':');
+					if (colon > 0) {
+						headers.put(header.substring(0, colon).trim().toLowerCase(Locale.ROOT), header.substring(colon + 1).trim());
+					}
+				}
+				byte[] body = readBody(inputStream, headers);
+				String[] parts = requestLine.split(" ");
+				String path = parts.length > 1 ? parts[1].split("\\?")[0] : "/";
+				if (!respond(socket, outputStream, parts[0], path, headers, body) || "close".equalsIgnoreCase(headers.get("connection"))) {
+					return;
+				}
+			}
+		} catch (IOException | InterruptedException e) {
+			// client went away or the simulator stopped
+		} finally {
+			openSockets.remove(socket);
+			try {
+				socket.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Answers a single request
+	 *
+	 * @return false if the connection must not be reused
+	 */
+	private boolean respond(Socket socket, OutputStream outputStream, String method, String path, Map<String, String> headers, byte[] body)
+			throws IOException, InterruptedException {
+		requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+		CountDownLatch gate = responseGate;
+		if (gate != null) {
+			heldRequests.incrementAndGet();
+			try {
+				gate.await(10, TimeUnit.SECONDS);
+			} finally {
+				heldRequests.decrementAndGet();
+			}
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Thread.sleep(latency.nextMillis(random));
+
+		Failure failure = nextFailure(path, random);
+		if (failure == Failure.SLOW) {
+			Thread.sleep(slowResponseMillis);
+		} else if (failure == Failure.CONNECTION_RESET) {
+			socket.setSoLinger(true, 0);
+			socket.close();
+			return false;
+		} else if (failure == Failure.UNAUTHORIZED) {
+			return write(outputStream, 401, error(401, "Unauthorized"), null);
+		} else if (failure == Failure.SERVER_ERROR) {
+			return write(outputStream, 500, error(500, "Internal Server Error"), null);
+		}
+
+		if (SIGNIN.equals(path)) {
+			return signin(outputStream, method, body);
+		}
+		byte[] response = responses.get(path);
+		if (response == null) {
+			return write(outputStream, 404, error(404, "Not Found"), null);
+		}
+		if (!isAuthorized(headers.get("authorization"))) {
+			return write(outputStream, 401, error(401, "Unauthorized"), null);
+		}
+		if (failure == Failure.MALFORMED_JSON) {
+			return write(outputStream, 200, Arrays.copyOf(response, response.length / 2), null);
+		}
+		if (etagEnabled) {
+			String etag = "\"" + Integer.toHexString(Arrays.hashCode(response)) + "\"";
+			if (etag.equals(headers.get("if-none-match"))) {
+				return write(outputStream, 304, new byte[0], etag);
+			}
+			return write(outputStream, 200, response, etag);
+		}
+		return write(outputStream, 200, response, null);
+	}
+
+	private Failure nextFailure(String path, ThreadLocalRandom random) {
+		Queue<Failure> failures = injectedFailures.get(path);
+		Failure failure = failures == null ? null : failures.poll();
+		if (failure != null || SIGNIN.equals(path)) {
+			return failure;
+		}
+		for (Map.Entry<Failure, Double> entry : failureProbabilities.entrySet()) {
+			if (random.nextDouble() < entry.getValue()) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	private boolean signin(OutputStream outputStream, String method, byte[] body) throws IOException {
+		if (!"POST".equals(method)) {
+			return write(outputStream, 405, error(405, "Method Not Allowed"), null);
+		}
+		JsonNode credentials;
+		try {
+			credentials = objectMapper.readTree(body);
+		} catch (IOException e) {
+			return write(outputStream, 400, error(400, "Bad Request"), null);
+		}
+		if (credentials == null || !login.equals(credentials.path("username").asText()) || !password.equals(credentials.path("password").asText())) {
+			return write(outputStream, 401, error(401, "Unauthorized"), null);
+		}
+		token = UUID.randomUUID().toString();
+		tokenIssuedTime = System.currentTimeMillis();
+		ObjectNode response = objectMapper.createObjectNode();
+		response.put("code", 200);
+		response.put("message", "OK");
+		ObjectNode result = response.putObject("result");
+		result.put("auth_token", token);
+		result.put("expires_in", tokenLifetimeMillis > 0 ? tokenLifetimeMillis / 1000 : 43200);
+		return write(outputStream, 200, objectMapper.writeValueAsBytes(response), null);
+	}
+
+	private boolean isAuthorized(String authorization) {
+		String current = token;
+		if (current == null || authorization == null || !authorization.equals("Bearer " + current)) {
+			return false;
+		}
+		return tokenLifetimeMillis <= 0 || System.currentTimeMillis() - tokenIssuedTime < tokenLifetimeMillis;
+	}
+
+	private boolean write(OutputStream outputStream, int status, byte[] body, String etag) throws IOException {
+		StringBuilder head = new StringBuilder();
+		head.append("HTTP/1.1 ").append(status).append(' ').append(reason(status)).append("\r\n");
+		head.append("Content-Type: application/json\r\n");
+		head.append("Content-Length: ").append(body.length).append("\r\n");
+		if (etag != null) {
+			head.append("ETag: ").append(etag).append("\r\n");
+		}
+		head.append("\r\n");
+		outputStream.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+		outputStream.write(body);
+		outputStream.flush();
+		return true;
+	}
+
+	private byte[] error(int code, String message) {
+		return String.format("{\"code\":%d,\"message\":\"%s\",\"result\":{}}", code, message).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String reason(int status) {
+		switch (status) {
+			case 200:
+				return "OK";
+			case 304:
+				return "Not Modified";
+			case 400:
+				return "Bad Request";
+			case 401:
+				return "Unauthorized";
+			case 404:
+				return "Not Found";
+			case 405:
+				return "Method Not Allowed";
+			default:
+				return "Internal Server Error";
+		}
+	}
+
+	/**
+	 * Builds the peripherals response from {@link #peripheralCounts}, filling every field the adapter reads
+	 */
+	private void generatePeripherals() {
+		ObjectNode response = objectMapper.createObjectNode();
+		response.put("code", 200);
+		response.put("message", "OK");
+		ObjectNode result = response.putObject("result");
+		for (PeripheralType type : PeripheralType.values()) {
+			ArrayNode items = result.putArray(type.getValue());
+			for (int index = 1; index <= peripheralCounts.get(type); index++) {
+				ObjectNode item = items.addObject();
+				for (int i = 0; i < type.getMetricCount(); i++) {
+					String field = type.getFieldName(i);
+					if (field.startsWith("is") || field.endsWith("Connected")) {
+						item.put(field, index % 2 == 1);
+					} else if ("height".equals(field) || "width".equals(field) || "hdmiPort".equals(field) || "refreshRate".equals(field)) {
+						item.put(field, "height".equals(field) ? 1080 : "width".equals(field) ? 1920 : "refreshRate".equals(field) ? 60 : index);
+					} else if ("id".equals(field) && type == PeripheralType.USB_DEVICES) {
+						item.put(field, 32 + index);
+					} else {
+						item.put(field, field + "-" + index);
+					}
+				}
+			}
+		}
+		try {
+			responses.put(PERIPHERALS, objectMapper.writeValueAsBytes(response));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] fixture(String name) throws IOException {
+		try (InputStream inputStream = CollabOsSimulator.class.getResourceAsStream("/collabos/" + name)) {
+			if (inputStream == null) {
+				throw new IOException("Missing fixture " + name);
+			}
+			return readFully(inputStream, -1);
+		}
+	}
+
+	private static byte[] readBody(InputStream inputStream, Map<String, String> headers) throws IOException {
+		String contentLength = headers.get("content-length");
+		if (contentLength == null) {
+			return new byte[0];
+		}
+		return readFully(inputStream, Integer.parseInt(contentLength));
+	}
+
+	private static byte[] readFully(InputStream inputStream, int length) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int remaining = length < 0 ? Integer.MAX_VALUE : length;
+		int read;
+		while (remaining > 0 && (read = inputStream.read(buffer, 0, Math.min(buffer.length, remaining))) > 0) {
+			outputStream.write(buffer, 0, read);
+			remaining -= read;
+		}
+		return outputStream.toByteArray();
+	}
+
+	private static String readLine(InputStream inputStream) throws IOException {
+		StringBuilder line = new StringBuilder();
+		int c;
+		while ((c = inputStream.read()) != -1) {
+			if (c == '\n') {
+				int length = line.length();
+				return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+			}
+			line.append((char) c);
+		}
+		return line.length() == 0 ? null : line.toString();
+	}
+}
@@ -0,0 +1,141 @@
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.logitech.collabos.common.DeviceEndpoint;
+
+/**
+ * LogitechCollabOsAggregatorCommunicatorTest, polls several {@link CollabOsSimulator} instances through one aggregator
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class LogitechCollabOsAggregatorCommunicatorTest {
+	private CollabOsSimulator first;
+	private CollabOsSimulator second;
+	private LogitechCollabOsAggregatorCommunicator aggregatorCommunicator;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		first = new CollabOsSimulator(false).start();
+		second = new CollabOsSimulator(false).start();
+		second.setCredentials("operator", "secret");
+		aggregatorCommunicator = new LogitechCollabOsAggregatorCommunicator();
+		aggregatorCommunicator.setHost("127.0.0.1");
+		aggregatorCommunicator.setProtocol("http");
+		aggregatorCommunicator.setLogin("admin");
+		aggregatorCommunicator.setPassword("admin");
+		aggregatorCommunicator.setDevicePollingInterval(1);
+		aggregatorCommunicator.setDeviceList("127.0.0.1:" + first.getPort() + ";127.0.0.1:" + second.getPort() + ",operator,secret");
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		aggregatorCommunicator.destroy();
+		first.close();
+		second.close();
+	}
+
+	private List<AggregatedDevice> awaitDevices(int count, boolean online) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (true) {
+			List<AggregatedDevice> devices = aggregatorCommunicator.retrieveMultipleStatistics();
+			long matching = devices.stream().filter(device -> device.getDeviceOnline() == online).count();
+			if (matching >= count || System.currentTimeMillis() > deadline) {
+				return devices;
+			}
+			Thread.sleep(50);
+		}
+	}
+
+	@Test
+	void testDevicesAreAggregated() throws Exception {
+		aggregatorCommunicator.init();
+
+		List<AggregatedDevice> devices = awaitDevices(2, true);
+		Assert.assertEquals(2, devices.size());
+		for (AggregatedDevice device : devices) {
+			Assert.assertTrue(device.getDeviceOnline());
+			Assert.assertEquals("2346FD2KD0T2", device.getSerialNumber());
+			Assert.assertEquals("Logitech", device.getDeviceMake());
+			Assert.assertNotNull(device.getProperties().get("RoomInsights#OccupancyCount"));
+		}
+		Assert.assertEquals(1, first.getRequestCount(CollabOsSimulator.SIGNIN));
+		Assert.assertEquals(1, second.getRequestCount(CollabOsSimulator.SIGNIN));
+
+		String secondId = "127.0.0.1:" + second.getPort();
+		List<AggregatedDevice> filtered = aggregatorCommunicator.retrieveMultipleStatistics(Collections.singletonList(secondId));
+		Assert.assertEquals(1, filtered.size());
+		Assert.assertEquals(secondId, filtered.get(0).getDeviceId());
+
+		Map<String, String> stats = ((ExtendedStatistics) aggregatorCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assert.assertEquals("2", stats.get("Devices"));
+		Assert.assertEquals("2", stats.get("OnlineDevices"));
+	}
+
+	@Test
+	void testUnreachableDeviceIsOffline() throws Exception {
+		aggregatorCommunicator.init();
+		awaitDevices(2, true);
+		String secondId = "127.0.0.1:" + second.getPort();
+		second.close();
+
+		List<AggregatedDevice> devices = awaitDevices(1, false);
+		for (AggregatedDevice device : devices) {
+			Assert.assertEquals(!secondId.equals(device.getDeviceId()), device.getDeviceOnline());
+			Assert.assertEquals("2346FD2KD0T2", device.getSerialNumber());
+		}
+	}
+
+	@Test
+	void testFailingDeviceIsSkipped() throws Exception {
+		String secondId = "127.0.0.1:" + second.getPort();
+		aggregatorCommunicator.destroy();
+		aggregatorCommunicator = new LogitechCollabOsAggregatorCommunicator() {
+			@Override
+			LogitechCollabOsCommunicator createDevice(DeviceEndpoint endpoint) throws Exception {
+				if (secondId.equals(endpoint.getDeviceId())) {
+					throw new IllegalStateException("Device init failed");
+				}
+				return super.createDevice(endpoint);
+			}
+		};
+		aggregatorCommunicator.setHost("127.0.0.1");
+		aggregatorCommunicator.setProtocol("http");
+		aggregatorCommunicator.setLogin("admin");
+		aggregatorCommunicator.setPassword("admin");
+		aggregatorCommunicator.setDevicePollingInterval(1);
+		aggregatorCommunicator.setDeviceList("127.0.0.1:" + first.getPort() + ";" + secondId + ",operator,secret");
+		aggregatorCommunicator.init();
+
+		List<AggregatedDevice> devices = awaitDevices(1, true);
+		Assert.assertEquals(1, devices.size());
+		Assert.assertEquals("127.0.0.1:" + first.getPort(), devices.get(0).getDeviceId());
+		Map<String, String> stats = ((ExtendedStatistics) aggregatorCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		Assert.assertEquals("1", stats.get("Devices"));
+		Assert.assertEquals(0, second.getRequestCount(CollabOsSimulator.SIGNIN));
+	}
+
+	@Test
+	void testInvalidDeviceList() throws Exception {
+		aggregatorCommunicator.setDeviceList("127.0.0.1:abc");
+		try {
+			aggregatorCommunicator.init();
+			Assert.fail("A device entry with an invalid port should be rejected");
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage().contains("127.0.0.1:abc"));
+		}
+	}
+}
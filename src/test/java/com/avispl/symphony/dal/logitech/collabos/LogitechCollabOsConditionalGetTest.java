@@ -0,0 +1,125 @@
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.logitech.collabos.common.CommandState;
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
+
+/**
+ * LogitechCollabOsConditionalGetTest, runs against a local stub answering with identical bodies or 304 Not Modified
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class LogitechCollabOsConditionalGetTest {
+	private static final String PERIPHERALS = "{\"code\":200,\"result\":{\"usbDevices\":[{\"id\":33,\"isAudioDevice\":true,\"name\":\"Mic Pod\",\"vid\":\"0x046d\"}]}}";
+	private static final String PERIPHERALS_CHANGED = "{\"code\":200,\"result\":{\"usbDevices\":[{\"id\":34,\"isAudioDevice\":true,\"name\":\"Mic Pod\",\"vid\":\"0x046d\"}]}}";
+
+	private final Map<String, String> responses = new ConcurrentHashMap<>();
+	private final AtomicInteger notModifiedCount = new AtomicInteger();
+	private volatile String etag;
+	private HttpServer server;
+	private LogitechCollabOsCommunicator collabOsCommunicator;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		responses.put("/api/v1/signin", "{\"code\":200,\"result\":{\"auth_token\":\"token\"}}");
+		responses.put("/api/v1/device", "{\"code\":200,\"result\":{\"serialNumber\":\"2346FD2KD0T2\"}}");
+		responses.put("/api/v1/insights/room", "{\"code\":200,\"result\":{\"occupancyCount\":0,\"occupancyMode\":\"ALWAYS_ON\"}}");
+		responses.put("/api/v1/insights/device", "{\"code\":200,\"result\":{\"micState\":\"UNMUTED\"}}");
+		responses.put("/api/v1/peripherals", PERIPHERALS);
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+
+		collabOsCommunicator = new LogitechCollabOsCommunicator();
+		collabOsCommunicator.setHost("127.0.0.1");
+		collabOsCommunicator.setPort(server.getAddress().getPort());
+		collabOsCommunicator.setLogin("admin");
+		collabOsCommunicator.setPassword("admin");
+		collabOsCommunicator.setDeviceInfoPollingInterval(0);
+		collabOsCommunicator.setPeripheralsPollingInterval(0);
+		collabOsCommunicator.init();
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		collabOsCommunicator.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	void testIdenticalBodyReusesStats() throws Exception {
+		collabOsCommunicator.getMultipleStatistics();
+		CommandState state = collabOsCommunicator.getCommandState(LogitechCommand.PERIPHERALS_INFO);
+		Map<String, String> peripheralStats = state.getStats();
+		Assert.assertTrue(state.isChanged());
+
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) collabOsCommunicator.getMultipleStatistics().get(0);
+		Assert.assertFalse(state.isChanged());
+		Assert.assertSame(peripheralStats, state.getStats());
+		Assert.assertEquals("33", extendedStatistics.getStatistics().get("USBDevice#ID"));
+	}
+
+	@Test
+	void testNotModifiedReusesStats() throws Exception {
+		etag = "\"v1\"";
+		collabOsCommunicator.getMultipleStatistics();
+		CommandState state = collabOsCommunicator.getCommandState(LogitechCommand.PERIPHERALS_INFO);
+		Map<String, String> peripheralStats = state.getStats();
+		Assert.assertEquals(etag, state.getEtag());
+
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) collabOsCommunicator.getMultipleStatistics().get(0);
+		Assert.assertEquals(LogitechCommand.values().length, notModifiedCount.get());
+		Assert.assertFalse(state.isChanged());
+		Assert.assertSame(peripheralStats, state.getStats());
+		Assert.assertEquals("33", extendedStatistics.getStatistics().get("USBDevice#ID"));
+		Assert.assertEquals("2346FD2KD0T2", extendedStatistics.getStatistics().get("SerialNumber"));
+	}
+
+	@Test
+	void testChangedBodyIsParsedAgain() throws Exception {
+		collabOsCommunicator.getMultipleStatistics();
+		responses.put("/api/v1/peripherals", PERIPHERALS_CHANGED);
+
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) collabOsCommunicator.getMultipleStatistics().get(0);
+		Assert.assertTrue(collabOsCommunicator.getCommandState(LogitechCommand.PERIPHERALS_INFO).isChanged());
+		Assert.assertEquals("34", extendedStatistics.getStatistics().get("USBDevice#ID"));
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		if (etag != null && !path.endsWith("signin")) {
+			exchange.getResponseHeaders().set("ETag", etag);
+			if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				notModifiedCount.incrementAndGet();
+				exchange.sendResponseHeaders(304, -1);
+				exchange.close();
+				return;
+			}
+		}
+		byte[] body = responses.getOrDefault(path, "{}").getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+		}
+	}
+}
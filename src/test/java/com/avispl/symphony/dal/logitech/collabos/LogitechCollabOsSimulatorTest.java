@@ -0,0 +1,760 @@
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.security.auth.login.FailedLoginException;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.logitech.collabos.CollabOsSimulator.Failure;
+import com.avispl.symphony.dal.logitech.collabos.CollabOsSimulator.LatencyDistribution;
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
+import com.avispl.symphony.dal.logitech.collabos.common.PeripheralType;
+
+/**
+ * LogitechCollabOsSimulatorTest, runs the unchanged communicator against the local {@link CollabOsSimulator}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class LogitechCollabOsSimulatorTest {
+	private CollabOsSimulator simulator;
+	private LogitechCollabOsCommunicator collabOsCommunicator;
+	private Path snapshotDirectory;
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		if (collabOsCommunicator != null) {
+			collabOsCommunicator.destroy();
+		}
+		if (simulator != null) {
+			simulator.close();
+		}
+		if (snapshotDirectory != null) {
+			try (Stream<Path> files = Files.list(snapshotDirectory)) {
+				for (Path file : (Iterable<Path>) files::iterator) {
+					Files.delete(file);
+				}
+			}
+			Files.delete(snapshotDirectory);
+		}
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) collabOsCommunicator.getMultipleStatistics().get(0);
+		return extendedStatistics.getStatistics();
+	}
+
+	private void start(boolean secure) throws Exception {
+		simulator = new CollabOsSimulator(secure).start();
+		collabOsCommunicator = new LogitechCollabOsCommunicator();
+		simulator.configure(collabOsCommunicator);
+		collabOsCommunicator.setDeviceInfoPollingInterval(0);
+		collabOsCommunicator.setPeripheralsPollingInterval(0);
+	}
+
+	@Test
+	void testHttp() throws Exception {
+		start(false);
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 5);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals("Name-5", stats.get("USBDevice5#Name"));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.SIGNIN));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS));
+	}
+
+	@Test
+	void testHttps() throws Exception {
+		start(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+		Assert.assertTrue(simulator.getHandshakeCount() > 0);
+	}
+
+	@Test
+	void testServerErrorKeepsOtherCommands() throws Exception {
+		start(false);
+		collabOsCommunicator.init();
+		simulator.injectFailure(CollabOsSimulator.PERIPHERALS, Failure.SERVER_ERROR, 1);
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertNull(stats.get("USBDevice1#Name"));
+
+		stats = getStatistics();
+		Assert.assertNotNull(stats.get("USBDevice1#Name"));
+	}
+
+	@Test
+	void testMalformedJsonKeepsLastGoodData() throws Exception {
+		start(false);
+		collabOsCommunicator.init();
+		getStatistics();
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 3);
+		simulator.injectFailure(CollabOsSimulator.PERIPHERALS, Failure.MALFORMED_JSON, 1);
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertNotNull(stats.get("USBDevice2#Name"));
+		Assert.assertNull(stats.get("USBDevice3#Name"));
+	}
+
+	@Test
+	void testConnectionReset() throws Exception {
+		start(false);
+		collabOsCommunicator.init();
+		simulator.injectFailure(CollabOsSimulator.DEVICE, Failure.CONNECTION_RESET, 1);
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+
+		collabOsCommunicator.destroy();
+		collabOsCommunicator.init();
+		simulator.injectFailure(CollabOsSimulator.DEVICE, Failure.CONNECTION_RESET, 10);
+		stats = getStatistics();
+		Assert.assertEquals("None", stats.get("SerialNumber"));
+		Assert.assertNotNull(stats.get("USBDevice1#Name"));
+	}
+
+	@Test
+	void testSlowResponseTimesOut() throws Exception {
+		start(false);
+		collabOsCommunicator.setTimeout(300);
+		collabOsCommunicator.init();
+		simulator.setSlowResponseMillis(1000);
+		simulator.injectFailure(CollabOsSimulator.INSIGHTS_ROOM, Failure.SLOW, 1);
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertNull(stats.get("RoomInsights#OccupancyCount"));
+	}
+
+	@Test
+	void testAllCommandsFailing() throws Exception {
+		start(false);
+		collabOsCommunicator.init();
+		simulator.setFailureProbability(Failure.SERVER_ERROR, 1);
+
+		try {
+			collabOsCommunicator.getMultipleStatistics();
+			Assert.fail("A cycle where every command fails should throw");
+		} catch (ResourceNotReachableException e) {
+			Assert.assertEquals(4, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS) + simulator.getRequestCount(CollabOsSimulator.DEVICE)
+					+ simulator.getRequestCount(CollabOsSimulator.INSIGHTS_ROOM) + simulator.getRequestCount(CollabOsSimulator.INSIGHTS_DEVICE));
+		}
+	}
+
+	@Test
+	void testAllCircuitBreakersOpen() throws Exception {
+		start(false);
+		collabOsCommunicator.setCircuitBreaker(true);
+		collabOsCommunicator.setCircuitBreakerThreshold(1);
+		collabOsCommunicator.setCircuitBreakerBackoff(60);
+		collabOsCommunicator.init();
+		simulator.setFailureProbability(Failure.SERVER_ERROR, 1);
+
+		for (int i = 0; i < 2; i++) {
+			try {
+				collabOsCommunicator.getMultipleStatistics();
+				Assert.fail("A cycle where every command fails or is short-circuited should throw");
+			} catch (ResourceNotReachableException e) {
+				Assert.assertEquals("Failed all command. Please double-check the requests", e.getMessage());
+			}
+		}
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+	}
+
+	@Test
+	void testFailingCommandWithCachedData() throws Exception {
+		start(false);
+		collabOsCommunicator.setDeviceInfoPollingInterval(3600);
+		collabOsCommunicator.setRoomInsightsPollingInterval(3600);
+		collabOsCommunicator.setDeviceInsightsPollingInterval(3600);
+		collabOsCommunicator.setCircuitBreaker(true);
+		collabOsCommunicator.setCircuitBreakerThreshold(1);
+		collabOsCommunicator.setCircuitBreakerBackoff(60);
+		collabOsCommunicator.init();
+		getStatistics();
+		simulator.setResponse(CollabOsSimulator.PERIPHERALS, null);
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals("Open", stats.get("CommandHealth#Peripherals"));
+
+		stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+	}
+
+	@Test
+	void testUnauthorizedSignin() throws Exception {
+		start(false);
+		simulator.setCredentials("admin", "other");
+		collabOsCommunicator.init();
+
+		try {
+			collabOsCommunicator.getMultipleStatistics();
+			Assert.fail("Signin with rejected credentials should throw");
+		} catch (FailedLoginException e) {
+			Assert.assertEquals(0, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+		}
+	}
+
+	@Test
+	void testLatency() throws Exception {
+		start(false);
+		collabOsCommunicator.setAdapterMetrics(true);
+		collabOsCommunicator.init();
+		simulator.setLatency(LatencyDistribution.fixed(50));
+
+		Map<String, String> stats = getStatistics();
+		for (LogitechCommand command : LogitechCommand.values()) {
+			Assert.assertTrue(Double.parseDouble(stats.get("AdapterMetrics#" + command.getName() + "LatencyP50(ms)")) >= 50);
+		}
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS));
+	}
+
+	@Test
+	void testMissingEndpointOpensCircuitBreaker() throws Exception {
+		start(false);
+		collabOsCommunicator.setCircuitBreaker(true);
+		collabOsCommunicator.setCircuitBreakerThreshold(2);
+		collabOsCommunicator.setCircuitBreakerBackoff(1);
+		collabOsCommunicator.init();
+		simulator.setResponse(CollabOsSimulator.INSIGHTS_ROOM, null);
+
+		getStatistics();
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("Open", stats.get("CommandHealth#RoomInsights"));
+		Assert.assertEquals("2", stats.get("CommandHealth#RoomInsightsConsecutiveFailures"));
+		Assert.assertEquals("Closed", stats.get("CommandHealth#DeviceInsights"));
+
+		stats = getStatistics();
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_ROOM));
+		Assert.assertEquals(3, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_DEVICE));
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+
+		Thread.sleep(1100);
+		simulator.setResponse(CollabOsSimulator.INSIGHTS_ROOM, "{\"code\":200,\"result\":{\"occupancyCount\":2,\"occupancyMode\":\"ALWAYS_ON\"}}");
+		stats = getStatistics();
+		Assert.assertEquals(3, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_ROOM));
+		Assert.assertEquals("Closed", stats.get("CommandHealth#RoomInsights"));
+		Assert.assertEquals("2", stats.get("RoomInsights#OccupancyCount"));
+	}
+
+	@Test
+	void testAdapterMetrics() throws Exception {
+		start(false);
+		collabOsCommunicator.setAdapterMetrics(true);
+		collabOsCommunicator.setAdapterMetricsWindow(10);
+		collabOsCommunicator.init();
+		simulator.setLatency(LatencyDistribution.fixed(20));
+
+		getStatistics();
+		simulator.injectFailure(CollabOsSimulator.INSIGHTS_ROOM, Failure.SERVER_ERROR, 1);
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("1", stats.get("AdapterMetrics#TokenRefreshes"));
+		Assert.assertNotNull(stats.get("AdapterMetrics#CycleTimeP95(ms)"));
+		Assert.assertTrue(Double.parseDouble(stats.get("AdapterMetrics#DeviceInfoLatencyMax(ms)")) >= 20);
+		Assert.assertEquals("1", stats.get("AdapterMetrics#DeviceInfoSuccessCount"));
+		Assert.assertEquals("Unchanged", stats.get("AdapterMetrics#DeviceInfoLastOutcome"));
+		Assert.assertEquals("Failed", stats.get("AdapterMetrics#RoomInsightsLastOutcome"));
+		Assert.assertNotNull(stats.get("AdapterMetrics#PeripheralsParseTimeP50(ms)"));
+		Assert.assertNotEquals("0", stats.get("AdapterMetrics#PeripheralsResponseBytes"));
+	}
+
+	@Test
+	void testAdapterMetricsDisabled() throws Exception {
+		start(false);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertNull(stats.get("AdapterMetrics#TokenRefreshes"));
+	}
+
+	@Test
+	void testKeepAliveAcrossCycles() throws Exception {
+		start(true);
+		collabOsCommunicator.setAdapterMetrics(true);
+		collabOsCommunicator.init();
+
+		getStatistics();
+		getStatistics();
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals(1, simulator.getConnectionCount());
+		Assert.assertEquals(1, simulator.getHandshakeCount());
+		Assert.assertEquals(3, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+		Assert.assertEquals("1", stats.get("AdapterMetrics#SocketsOpened"));
+		Assert.assertEquals("1", stats.get("AdapterMetrics#TlsHandshakes"));
+		Assert.assertEquals("0", stats.get("AdapterMetrics#LastCycleSocketsOpened"));
+		Assert.assertEquals("0", stats.get("AdapterMetrics#LastCycleTlsHandshakes"));
+		Assert.assertEquals("4", stats.get("AdapterMetrics#LastCycleReusedConnections"));
+	}
+
+	@Test
+	void testIdleConnectionEvicted() throws Exception {
+		start(true);
+		collabOsCommunicator.setConnectionMaxIdleTime(1);
+		collabOsCommunicator.init();
+
+		getStatistics();
+		Thread.sleep(2500);
+		getStatistics();
+		Assert.assertEquals(2, simulator.getConnectionCount());
+		Assert.assertEquals(2, simulator.getHandshakeCount());
+	}
+
+	@Test
+	void testStaleConnectionValidatedBeforeReuse() throws Exception {
+		start(false);
+		collabOsCommunicator.setAdapterMetrics(true);
+		collabOsCommunicator.setConnectionMaxIdleTime(0);
+		collabOsCommunicator.setConnectionValidateAfterInactivity(1);
+		collabOsCommunicator.init();
+
+		getStatistics();
+		simulator.closeConnections();
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals(2, simulator.getConnectionCount());
+		Assert.assertEquals("1", stats.get("AdapterMetrics#LastCycleSocketsOpened"));
+		Assert.assertEquals("0", stats.get("AdapterMetrics#LastCycleTlsHandshakes"));
+		Assert.assertEquals("3", stats.get("AdapterMetrics#LastCycleReusedConnections"));
+	}
+
+	@Test
+	void testTcpPing() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("TCP");
+		collabOsCommunicator.setConcurrentPing(true);
+		collabOsCommunicator.init();
+
+		int ping = collabOsCommunicator.ping();
+		Assert.assertTrue(ping >= 1 && ping < collabOsCommunicator.getPingTimeout());
+	}
+
+	@Test
+	void testTcpPingOfClosedPort() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("TCP");
+		collabOsCommunicator.init();
+		simulator.close();
+
+		try {
+			collabOsCommunicator.ping();
+			Assert.fail("A closed port should fail the ping");
+		} catch (RuntimeException e) {
+			Assert.assertEquals("Socket connection timed out", e.getMessage());
+		}
+	}
+
+	@Test
+	void testHttpPingReusesPollRoundTrips() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("HTTP");
+		collabOsCommunicator.init();
+		simulator.setLatency(LatencyDistribution.fixed(30));
+
+		int ping = collabOsCommunicator.ping();
+		Assert.assertTrue(ping >= 30);
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+
+		getStatistics();
+		ping = collabOsCommunicator.ping();
+		Assert.assertTrue(ping >= 30);
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+	}
+
+	@Test
+	void testHttpPingWithoutFreshRoundTrips() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("HTTP");
+		collabOsCommunicator.setHttpPingMaxAge(0);
+		collabOsCommunicator.init();
+		getStatistics();
+
+		collabOsCommunicator.ping();
+		collabOsCommunicator.ping();
+		Assert.assertEquals(3, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+		simulator.setFailureProbability(Failure.SERVER_ERROR, 1);
+		Assert.assertEquals(collabOsCommunicator.getPingTimeout(), collabOsCommunicator.ping());
+	}
+
+	@Test
+	void testHttpPingFollowsGroupFilter() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("HTTP");
+		collabOsCommunicator.setExcludedGroups("DeviceInfo");
+		collabOsCommunicator.init();
+
+		collabOsCommunicator.ping();
+		Assert.assertEquals(0, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_ROOM));
+	}
+
+	@Test
+	void testDualPingStatistics() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("DUAL");
+		collabOsCommunicator.setPingAttempts(3);
+		collabOsCommunicator.init();
+
+		int ping = collabOsCommunicator.ping();
+		Assert.assertTrue(ping >= 1 && ping < collabOsCommunicator.getPingTimeout());
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("0.0", stats.get("PingStatistics#TcpLoss(%)"));
+		Assert.assertNotNull(stats.get("PingStatistics#TcpJitter(ms)"));
+		Assert.assertNotNull(stats.get("PingStatistics#IcmpLoss(%)"));
+	}
+
+	@Test
+	void testDualPingKeepsProbingAfterLoss() throws Exception {
+		start(false);
+		collabOsCommunicator.setPingMode("DUAL");
+		collabOsCommunicator.setPingAttempts(2);
+		collabOsCommunicator.setPingTimeout(300);
+		collabOsCommunicator.setDeviceInfoPollingInterval(3600);
+		collabOsCommunicator.setRoomInsightsPollingInterval(3600);
+		collabOsCommunicator.setDeviceInsightsPollingInterval(3600);
+		collabOsCommunicator.setPeripheralsPollingInterval(3600);
+		collabOsCommunicator.init();
+		getStatistics();
+		collabOsCommunicator.ping();
+		simulator.close();
+
+		Assert.assertTrue(collabOsCommunicator.ping() <= collabOsCommunicator.getPingTimeout());
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("50.0", stats.get("PingStatistics#TcpLoss(%)"));
+	}
+
+	@Test
+	void testDeltaStatistics() throws Exception {
+		start(false);
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 2);
+		collabOsCommunicator.setDeltaStatistics(true);
+		collabOsCommunicator.setCircuitBreaker(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		String serialNumber = stats.get("SerialNumber");
+		Assert.assertNotNull(stats.get("LastChanged#SerialNumber"));
+		Assert.assertTrue(Integer.parseInt(stats.get("ChangedProperties")) > 0);
+		Assert.assertNull(stats.get("LastChanged#CommandHealth#DeviceInfo"));
+
+		Map<String, String> unchanged = getStatistics();
+		Assert.assertSame(stats, unchanged);
+		Assert.assertEquals("0", unchanged.get("ChangedProperties"));
+		Assert.assertSame(serialNumber, unchanged.get("SerialNumber"));
+
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 3);
+		Map<String, String> changed = getStatistics();
+		Assert.assertEquals("Name-3", changed.get("USBDevice3#Name"));
+		Assert.assertNotNull(changed.get("LastChanged#USBDevice3#Name"));
+		Assert.assertTrue(Integer.parseInt(changed.get("ChangedProperties")) > 0);
+		Assert.assertSame(serialNumber, changed.get("SerialNumber"));
+	}
+
+	@Test
+	void testStablePeripheralSlots() throws Exception {
+		start(false);
+		collabOsCommunicator.setStablePeripheralSlots(true);
+		collabOsCommunicator.setPeripheralsPollingInterval(0);
+		simulator.setResponse(CollabOsSimulator.PERIPHERALS, peripherals(33, 34, 35));
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("34", stats.get("USBDevice2#ID"));
+		Assert.assertEquals("35", stats.get("USBDevice3#ID"));
+
+		simulator.setResponse(CollabOsSimulator.PERIPHERALS, peripherals(33, 35));
+		stats = getStatistics();
+		Assert.assertNull(stats.get("USBDevice2#ID"));
+		Assert.assertEquals("35", stats.get("USBDevice3#ID"));
+		Assert.assertEquals("Device-35", stats.get("USBDevice3#Name"));
+
+		simulator.setResponse(CollabOsSimulator.PERIPHERALS, peripherals(36, 33, 35));
+		stats = getStatistics();
+		Assert.assertEquals("36", stats.get("USBDevice2#ID"));
+		Assert.assertEquals("35", stats.get("USBDevice3#ID"));
+		Assert.assertEquals(1, collabOsCommunicator.getPeripheralIndex().getRemoved());
+	}
+
+	@Test
+	void testExcludedGroups() throws Exception {
+		start(false);
+		collabOsCommunicator.setExcludedGroups("USBDevice, Remote, IPController, DeviceInsights");
+		collabOsCommunicator.setCircuitBreaker(true);
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 2);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals(0, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_DEVICE));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS));
+		Assert.assertNull(stats.get("CommandHealth#DeviceInsights"));
+		Assert.assertNotNull(stats.get("CommandHealth#RoomInsights"));
+		Assert.assertNotNull(stats.get("Display#ID"));
+		for (String key : stats.keySet()) {
+			Assert.assertFalse(key, key.startsWith("USBDevice") || key.startsWith("Remote") || key.startsWith("IPController") || key.startsWith("DeviceInsights"));
+		}
+	}
+
+	@Test
+	void testIncludedGroups() throws Exception {
+		start(false);
+		collabOsCommunicator.setIncludedGroups("DeviceInfo");
+		collabOsCommunicator.setCircuitBreaker(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals(0, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_ROOM));
+		Assert.assertEquals(0, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS));
+		Assert.assertNull(stats.get("CommandHealth#Peripherals"));
+	}
+
+	@Test
+	void testAdaptivePolling() throws Exception {
+		start(false);
+		collabOsCommunicator.setPeripheralsPollingInterval(300);
+		collabOsCommunicator.setAdaptivePolling(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("Vacant", stats.get("AdaptivePolling#RoomActivity"));
+		Assert.assertEquals("900", stats.get("AdaptivePolling#DeviceInsightsInterval(s)"));
+		Assert.assertEquals("900", stats.get("AdaptivePolling#PeripheralsInterval(s)"));
+		getStatistics();
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_DEVICE));
+
+		simulator.setResponse(CollabOsSimulator.INSIGHTS_ROOM, "{\"code\":200,\"result\":{\"occupancyCount\":2,\"occupancyMode\":\"ALWAYS_ON\"}}");
+		stats = getStatistics();
+		Assert.assertEquals("Active", stats.get("AdaptivePolling#RoomActivity"));
+		Assert.assertEquals("0", stats.get("AdaptivePolling#DeviceInsightsInterval(s)"));
+		Assert.assertEquals("30", stats.get("AdaptivePolling#PeripheralsInterval(s)"));
+		getStatistics();
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.INSIGHTS_DEVICE));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.PERIPHERALS));
+	}
+
+	@Test
+	void testAdaptivePollingWithoutOccupancy() throws Exception {
+		start(false);
+		collabOsCommunicator.setPeripheralsPollingInterval(300);
+		simulator.setResponse(CollabOsSimulator.INSIGHTS_ROOM, "{\"code\":200,\"result\":{\"occupancyCount\":0,\"occupancyMode\":\"OFF\"}}");
+		collabOsCommunicator.setAdaptivePolling(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("Unknown", stats.get("AdaptivePolling#RoomActivity"));
+		Assert.assertEquals("0", stats.get("AdaptivePolling#DeviceInsightsInterval(s)"));
+		Assert.assertEquals("300", stats.get("AdaptivePolling#PeripheralsInterval(s)"));
+	}
+
+	@Test
+	void testOccupancyStatistics() throws Exception {
+		start(false);
+		simulator.setResponse(CollabOsSimulator.INSIGHTS_ROOM, "{\"code\":200,\"result\":{\"occupancyCount\":3,\"occupancyMode\":\"ALWAYS_ON\"}}");
+		collabOsCommunicator.setOccupancyStatistics(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("3", stats.get("RoomInsights#Occupancy15mMin"));
+		Assert.assertEquals("3", stats.get("RoomInsights#Occupancy1hMax"));
+		Assert.assertEquals("3.00", stats.get("RoomInsights#Occupancy24hAverage"));
+		Assert.assertEquals("100.0", stats.get("RoomInsights#Occupancy24hOccupied(%)"));
+		Assert.assertEquals(1, collabOsCommunicator.getOccupancySeries().getCount());
+	}
+
+	@Test
+	void testOccupancyStatisticsDisabled() throws Exception {
+		start(false);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertNull(stats.get("RoomInsights#Occupancy15mMin"));
+		Assert.assertEquals(0, collabOsCommunicator.getOccupancySeries().getCount());
+	}
+
+	@Test
+	void testTransitionHistory() throws Exception {
+		start(false);
+		collabOsCommunicator.setTransitionHistory(true);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("0", stats.get("DeviceInsights#MicMuteCount24h"));
+		Assert.assertEquals("None", stats.get("DeviceInsights#RecentTransitions"));
+
+		simulator.setResponse(CollabOsSimulator.INSIGHTS_DEVICE, "{\"code\":200,\"result\":{\"deviceState\":\"IN_CALL\",\"micState\":\"MUTED\",\"speakerState\":\"UNMUTED\",\"speakerVolume\":10}}");
+		stats = getStatistics();
+		Assert.assertEquals("1", stats.get("DeviceInsights#MicMuteCount24h"));
+		Assert.assertEquals("1", stats.get("DeviceInsights#MicStateChanges24h"));
+		Assert.assertEquals("1", stats.get("DeviceInsights#DeviceStateChanges24h"));
+		Assert.assertEquals("0", stats.get("DeviceInsights#SpeakerVolumeChanges24h"));
+		Assert.assertTrue(stats.get("DeviceInsights#RecentTransitions").contains("MicState MUTED"));
+		Assert.assertEquals(2, collabOsCommunicator.getTransitionLog().getSize());
+	}
+
+	private Path snapshotDirectory() throws Exception {
+		snapshotDirectory = Files.createTempDirectory("collabos-snapshot");
+		return snapshotDirectory;
+	}
+
+	private LogitechCollabOsCommunicator restart(Path directory) throws Exception {
+		collabOsCommunicator.destroy();
+		collabOsCommunicator = new LogitechCollabOsCommunicator();
+		simulator.configure(collabOsCommunicator);
+		collabOsCommunicator.setSnapshotDirectory(directory.toString());
+		collabOsCommunicator.init();
+		return collabOsCommunicator;
+	}
+
+	@Test
+	void testSnapshotWarmStart() throws Exception {
+		Path directory = snapshotDirectory();
+		start(false);
+		collabOsCommunicator.setSnapshotDirectory(directory.toString());
+		collabOsCommunicator.init();
+		Assert.assertNull(getStatistics().get("Snapshot#Stale"));
+		Assert.assertTrue(Files.exists(collabOsCommunicator.getSnapshotStore().getFile()));
+
+		restart(directory);
+		simulator.holdResponses();
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("true", stats.get("Snapshot#Stale"));
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+
+		long deadline = System.currentTimeMillis() + 10000;
+		while (simulator.getHeldRequests() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(simulator.getHeldRequests() > 0);
+		Assert.assertEquals("true", getStatistics().get("Snapshot#Stale"));
+		simulator.releaseResponses();
+
+		deadline = System.currentTimeMillis() + 10000;
+		while (stats.containsKey("Snapshot#Stale") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			stats = getStatistics();
+		}
+		Assert.assertNull(stats.get("Snapshot#Stale"));
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertEquals(1, simulator.getRequestCount(CollabOsSimulator.SIGNIN));
+	}
+
+	@Test
+	void testSnapshotServedWhileOffline() throws Exception {
+		Path directory = snapshotDirectory();
+		start(false);
+		collabOsCommunicator.setSnapshotDirectory(directory.toString());
+		collabOsCommunicator.setTimeout(500);
+		collabOsCommunicator.init();
+		getStatistics();
+		simulator.setFailureProbability(Failure.CONNECTION_RESET, 1);
+
+		restart(directory);
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("true", stats.get("Snapshot#Stale"));
+
+		long deadline = System.currentTimeMillis() + 10000;
+		while (simulator.getRequestCount(CollabOsSimulator.DEVICE) < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(simulator.getRequestCount(CollabOsSimulator.DEVICE) >= 2);
+		stats = getStatistics();
+		Assert.assertEquals("true", stats.get("Snapshot#Stale"));
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertNotNull(stats.get("Snapshot#SavedAt"));
+	}
+
+	@Test
+	void testStaleWhileRevalidate() throws Exception {
+		start(false);
+		collabOsCommunicator.setStaleWhileRevalidate(true);
+		collabOsCommunicator.setMinRefreshInterval(0);
+		collabOsCommunicator.setPeripheralsPollingInterval(0);
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 2);
+		collabOsCommunicator.init();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("Name-2", stats.get("USBDevice2#Name"));
+
+		simulator.holdResponses();
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 3);
+		Assert.assertSame(stats, getStatistics());
+
+		long deadline = System.currentTimeMillis() + 10000;
+		while (simulator.getHeldRequests() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(simulator.getHeldRequests() > 0);
+		Assert.assertSame(stats, getStatistics());
+		simulator.releaseResponses();
+
+		deadline = System.currentTimeMillis() + 10000;
+		while (!stats.containsKey("USBDevice3#Name") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			stats = getStatistics();
+		}
+		Assert.assertEquals("Name-3", stats.get("USBDevice3#Name"));
+	}
+
+	@Test
+	void testStaleWhileRevalidateSingleFlight() throws Exception {
+		start(false);
+		collabOsCommunicator.setStaleWhileRevalidate(true);
+		collabOsCommunicator.setMinRefreshInterval(60);
+		collabOsCommunicator.init();
+		getStatistics();
+		int requests = simulator.getRequestCount(CollabOsSimulator.DEVICE);
+
+		for (int i = 0; i < 5; i++) {
+			getStatistics();
+		}
+		Thread.sleep(200);
+		Assert.assertEquals(requests, simulator.getRequestCount(CollabOsSimulator.DEVICE));
+	}
+
+	@Test
+	void testStaleWhileRevalidateBlocksPastMaxStaleness() throws Exception {
+		start(false);
+		collabOsCommunicator.setStaleWhileRevalidate(true);
+		collabOsCommunicator.setMinRefreshInterval(0);
+		collabOsCommunicator.setMaxStaleness(0);
+		collabOsCommunicator.init();
+		getStatistics();
+		simulator.setFailureProbability(Failure.SERVER_ERROR, 1);
+
+		try {
+			getStatistics();
+			Assert.fail("Statistics past their max staleness should be refreshed before being served");
+		} catch (ResourceNotReachableException e) {
+			Assert.assertEquals("Failed all command. Please double-check the requests", e.getMessage());
+		}
+	}
+
+	private static String peripherals(int... ids) {
+		StringBuilder devices = new StringBuilder();
+		for (int id : ids) {
+			devices.append(devices.length() == 0 ? "" : ",").append("{\"id\":").append(id).append(",\"name\":\"device-").append(id).append("\"}");
+		}
+		return "{\"code\":200,\"result\":{\"usbDevices\":[" + devices + "]}}";
+	}
+}
@@ -0,0 +1,92 @@
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.logitech.collabos.CollabOsSimulator.LatencyDistribution;
+import com.avispl.symphony.dal.logitech.collabos.common.PeripheralType;
+
+/**
+ * LogitechCollabOsTokenTest, covers proactive token refresh and re-auth after a revoked token against the {@link CollabOsSimulator}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class LogitechCollabOsTokenTest {
+	private CollabOsSimulator simulator;
+	private LogitechCollabOsCommunicator collabOsCommunicator;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		simulator = new CollabOsSimulator(false).start();
+		collabOsCommunicator = new LogitechCollabOsCommunicator();
+		simulator.configure(collabOsCommunicator);
+		collabOsCommunicator.setDeviceInfoPollingInterval(0);
+		collabOsCommunicator.setPeripheralsPollingInterval(0);
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		collabOsCommunicator.destroy();
+		simulator.close();
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) collabOsCommunicator.getMultipleStatistics().get(0);
+		return extendedStatistics.getStatistics();
+	}
+
+	@Test
+	void testRevokedTokenSignsInAgain() throws Exception {
+		collabOsCommunicator.init();
+		getStatistics();
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 3);
+		simulator.expireToken();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertNotNull(stats.get("USBDevice3#Name"));
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.SIGNIN));
+	}
+
+	@Test
+	void testConcurrentRejectionsShareOneSignIn() throws Exception {
+		collabOsCommunicator.setConcurrentFetch(true);
+		collabOsCommunicator.init();
+		getStatistics();
+		simulator.setLatency(LatencyDistribution.fixed(50));
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 3);
+		simulator.expireToken();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals("2346FD2KD0T2", stats.get("SerialNumber"));
+		Assert.assertNotNull(stats.get("USBDevice3#Name"));
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.SIGNIN));
+	}
+
+	@Test
+	void testTokenRefreshedAheadOfExpiry() throws Exception {
+		simulator.setTokenLifetimeMillis(4000);
+		collabOsCommunicator.init();
+		getStatistics();
+		Thread.sleep(3300);
+
+		getStatistics();
+		Thread.sleep(200);
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.SIGNIN));
+
+		Thread.sleep(1000);
+		simulator.setPeripheralCount(PeripheralType.USB_DEVICES, 3);
+		Map<String, String> stats = getStatistics();
+		Assert.assertNotNull(stats.get("USBDevice3#Name"));
+		Assert.assertEquals(2, simulator.getRequestCount(CollabOsSimulator.SIGNIN));
+	}
+}
@@ -0,0 +1,77 @@
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
+
+/**
+ * PeripheralsPipelineTest, checks that the peripherals of a device with many USB devices and Sights are populated straight
+ * from the response tree with the same statistics as the streaming decoder.
+ * Their allocations and CPU time are compared by PopulateBenchmark in the benchmark module.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class PeripheralsPipelineTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final LogitechCollabOsCommunicator collabOsCommunicator = new LogitechCollabOsCommunicator();
+
+	@Test
+	void testLargeInventoryMatchesStreamingDecoder() throws Exception {
+		ObjectNode response = objectMapper.createObjectNode();
+		response.put("code", 200);
+		response.set("result", buildPeripherals(48, 16));
+		byte[] body = objectMapper.writeValueAsBytes(response);
+		Map<String, String> treeStats = new HashMap<>();
+		Map<String, String> streamingStats = new HashMap<>();
+		Assert.assertTrue(collabOsCommunicator.decode(LogitechCommand.PERIPHERALS_INFO, body, treeStats, false));
+		Assert.assertTrue(collabOsCommunicator.decode(LogitechCommand.PERIPHERALS_INFO, body, streamingStats, true));
+		Assert.assertEquals(streamingStats, treeStats);
+		Assert.assertEquals("Usb device 47", treeStats.get("USBDevice48#Name"));
+		Assert.assertEquals("Sight-15", treeStats.get("Sight16#ID"));
+		Assert.assertEquals("1920", treeStats.get("Display#Width(px)"));
+	}
+
+	private JsonNode buildPeripherals(int usbDevices, int sights) {
+		ObjectNode results = objectMapper.createObjectNode();
+		ArrayNode usbDeviceArray = results.putArray("usbDevices");
+		for (int i = 0; i < usbDevices; i++) {
+			usbDeviceArray.addObject()
+					.put("id", i)
+					.put("isAudioDevice", i % 2 == 0)
+					.put("isVideoDevice", i % 2 == 1)
+					.put("videoFirmwareVersion", "1.2." + i)
+					.put("audioFirmwareVersion", "3.4." + i)
+					.put("name", "usb device " + i)
+					.put("pid", "0x08" + i)
+					.put("vid", "0x046d");
+		}
+		ArrayNode sightArray = results.putArray("sights");
+		for (int i = 0; i < sights; i++) {
+			sightArray.addObject()
+					.put("id", "sight-" + i)
+					.put("cameraConnected", true)
+					.put("microphoneConnected", true)
+					.put("firmwareVersion", "1.0." + i);
+		}
+		results.putArray("displays").addObject()
+				.put("id", "display")
+				.put("hdmiPort", 1)
+				.put("width", 1920)
+				.put("height", 1080)
+				.put("refreshRate", 60);
+		return results;
+	}
+}
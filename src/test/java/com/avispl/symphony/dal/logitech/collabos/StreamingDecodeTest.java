@@ -0,0 +1,127 @@
+package com.avispl.symphony.dal.logitech.collabos;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.logitech.collabos.common.LogitechCommand;
+
+/**
+ * StreamingDecodeTest, checks that the streaming decoder produces exactly the output of the tree decoder
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class StreamingDecodeTest {
+	private final LogitechCollabOsCommunicator collabOsCommunicator = new LogitechCollabOsCommunicator();
+
+	@Test
+	void testFixturesMatchTreeDecoder() throws Exception {
+		assertSameOutput(LogitechCommand.DEVICE_INFO, fixture("device.json"));
+		assertSameOutput(LogitechCommand.INSIGHTS_ROOM, fixture("insights-room.json"));
+		assertSameOutput(LogitechCommand.INSIGHTS_DEVICE, fixture("insights-device.json"));
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, fixture("peripherals.json"));
+	}
+
+	@Test
+	void testEdgeCasesMatchTreeDecoder() throws Exception {
+		assertSameOutput(LogitechCommand.DEVICE_INFO, "{\"result\":{\"deviceName\":\"\",\"hwVersion\":4.40,\"modelName\":null,\"systemName\":{\"a\":1}},\"code\":200}");
+		assertSameOutput(LogitechCommand.DEVICE_INFO, "{\"code\":200,\"result\":null}");
+		assertSameOutput(LogitechCommand.DEVICE_INFO, "{\"code\":\"200\",\"result\":{\"deviceName\":\"Rally\"}}");
+		assertSameOutput(LogitechCommand.DEVICE_INFO, "{\"code\":null,\"result\":{\"deviceName\":\"Rally\"}}");
+		assertSameOutput(LogitechCommand.DEVICE_INFO, "{\"code\":200}");
+		assertSameOutput(LogitechCommand.INSIGHTS_ROOM, "{\"code\":200,\"result\":{\"occupancyCount\":12345678901234,\"occupancyMode\":\"\",\"occupancyCount\":3}}");
+		assertSameOutput(LogitechCommand.INSIGHTS_DEVICE, "{\"code\":200.0,\"result\":{\"micState\":null,\"speakerVolume\":1e1,\"speakerState\":[\"MUTED\"],\"occupancyCount\":1}}");
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, "{\"code\":200,\"result\":{\"displays\":{\"id\":1},\"remotes\":[1,{\"name\":\"remote\",\"macAddress\":null},[]],"
+				+ "\"sights\":[{\"id\":\"a\",\"cameraConnected\":true}],\"sights\":[{\"id\":\"b\"},{\"id\":\"c\",\"id\":\"d\"}]}}");
+	}
+
+	@Test
+	void testStablePeripheralSlotsMatchTreeDecoder() throws Exception {
+		collabOsCommunicator.setStablePeripheralSlots(true);
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, fixture("peripherals.json"));
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, "{\"code\":200,\"result\":{\"remotes\":[1,{\"name\":\"remote\",\"macAddress\":null}],"
+				+ "\"usbDevices\":[{\"id\":33,\"name\":\"rally\"},{\"id\":33,\"name\":\"tap\"}]}}");
+	}
+
+	@Test
+	void testStablePeripheralSlotsMatchTreeDecoderWithTypeToggledOff() throws Exception {
+		collabOsCommunicator.setStablePeripheralSlots(true);
+		byte[] body = fixture("peripherals.json");
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, body);
+
+		collabOsCommunicator.setExcludedGroups("Sight");
+		Map<String, String> tree = new HashMap<>();
+		collabOsCommunicator.decode(LogitechCommand.PERIPHERALS_INFO, body, tree, false);
+		Assert.assertFalse(tree.keySet().stream().anyMatch(key -> key.startsWith("Sight")));
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, body);
+
+		collabOsCommunicator.setExcludedGroups("");
+		assertSameOutput(LogitechCommand.PERIPHERALS_INFO, body);
+	}
+
+	@Test
+	void testMissingCodeFailsInBothDecoders() {
+		byte[] body = "{\"result\":{\"deviceName\":\"Rally\"}}".getBytes(StandardCharsets.UTF_8);
+		assertFails(() -> collabOsCommunicator.decode(LogitechCommand.DEVICE_INFO, body, new HashMap<>(), false));
+		assertFails(() -> collabOsCommunicator.decode(LogitechCommand.DEVICE_INFO, body, new HashMap<>(), true));
+	}
+
+	private void assertSameOutput(LogitechCommand command, String body) throws Exception {
+		assertSameOutput(command, body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void assertSameOutput(LogitechCommand command, byte[] body) throws Exception {
+		Map<String, String> tree = new HashMap<>();
+		Map<String, String> streaming = new HashMap<>();
+		boolean treeDecoded = collabOsCommunicator.decode(command, body, tree, false);
+		boolean streamingDecoded = collabOsCommunicator.decode(command, body, streaming, true);
+		Assert.assertEquals(treeDecoded, streamingDecoded);
+		if (treeDecoded) {
+			Assert.assertEquals(tree, streaming);
+		}
+	}
+
+	private void assertFails(Decode decode) {
+		try {
+			decode.run();
+			Assert.fail("Decoding a response without code should fail");
+		} catch (Exception e) {
+			// expected
+		}
+	}
+
+	static byte[] fixture(String name) throws IOException {
+		try (InputStream inputStream = StreamingDecodeTest.class.getResourceAsStream("/collabos/" + name)) {
+			if (inputStream == null) {
+				throw new IOException("Missing fixture " + name);
+			}
+			byte[] buffer = new byte[8192];
+			int length = 0;
+			int read;
+			while ((read = inputStream.read(buffer, length, buffer.length - length)) > 0) {
+				length += read;
+				if (length == buffer.length) {
+					buffer = Arrays.copyOf(buffer, buffer.length * 2);
+				}
+			}
+			return Arrays.copyOf(buffer, length);
+		}
+	}
+
+	/**
+	 * Decoding expected to fail
+	 */
+	private interface Decode {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,64 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreakerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class CircuitBreakerTest {
+
+	@Test
+	void testOpensAfterThreshold() {
+		CircuitBreaker breaker = new CircuitBreaker();
+		breaker.setFailureThreshold(3);
+		breaker.setBaseBackoff(1000);
+
+		Assert.assertFalse(breaker.recordFailure(0));
+		Assert.assertFalse(breaker.recordFailure(0));
+		Assert.assertTrue(breaker.recordFailure(0));
+		Assert.assertEquals(BreakerState.OPEN, breaker.getState());
+		Assert.assertTrue(breaker.getRetryTime() >= 500 && breaker.getRetryTime() <= 1000);
+		Assert.assertFalse(breaker.allowRequest(499));
+	}
+
+	@Test
+	void testHalfOpenProbe() {
+		CircuitBreaker breaker = new CircuitBreaker();
+		breaker.setFailureThreshold(1);
+		breaker.setBaseBackoff(1000);
+		breaker.setMaxBackoff(3000);
+		breaker.recordFailure(0);
+
+		Assert.assertTrue(breaker.allowRequest(1000));
+		Assert.assertEquals(BreakerState.HALF_OPEN, breaker.getState());
+		Assert.assertTrue(breaker.recordFailure(1000));
+		Assert.assertTrue(breaker.getRetryTime() >= 2000 && breaker.getRetryTime() <= 3000);
+
+		breaker.allowRequest(3000);
+		breaker.recordFailure(3000);
+		Assert.assertTrue(breaker.getRetryTime() >= 4500 && breaker.getRetryTime() <= 6000);
+
+		breaker.allowRequest(6000);
+		breaker.recordSuccess();
+		Assert.assertEquals(BreakerState.CLOSED, breaker.getState());
+		Assert.assertEquals(0, breaker.getConsecutiveFailures());
+		Assert.assertTrue(breaker.allowRequest(6000));
+	}
+
+	@Test
+	void testDisabled() {
+		CircuitBreaker breaker = new CircuitBreaker();
+		breaker.setFailureThreshold(0);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertFalse(breaker.recordFailure(0));
+		}
+		Assert.assertTrue(breaker.allowRequest(0));
+	}
+}
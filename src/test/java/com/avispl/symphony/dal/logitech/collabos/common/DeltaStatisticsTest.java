@@ -0,0 +1,67 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeltaStatisticsTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class DeltaStatisticsTest {
+
+	@Test
+	void testOnlyChangedPropertiesAreUpdated() {
+		DeltaStatistics delta = new DeltaStatistics(LogitechConstant.ADAPTER_METRICS);
+		Map<String, String> cycle = new HashMap<>();
+		cycle.put("Name", new String("Rally"));
+		cycle.put("Count", "1");
+		cycle.put("AdapterMetrics#Cycles", "1");
+
+		Map<String, String> stats = delta.apply(cycle, 1000);
+		String name = stats.get("Name");
+		Assert.assertEquals("2", stats.get(LogitechConstant.CHANGED_PROPERTIES));
+		Assert.assertEquals("1970-01-01T00:00:01Z", stats.get("LastChanged#Count"));
+		Assert.assertNull(stats.get("LastChanged#AdapterMetrics#Cycles"));
+
+		cycle.put("Name", new String("Rally"));
+		cycle.put("Count", "2");
+		cycle.put("AdapterMetrics#Cycles", "2");
+		Assert.assertSame(stats, delta.apply(cycle, 2000));
+		Assert.assertSame(name, stats.get("Name"));
+		Assert.assertEquals("1", stats.get(LogitechConstant.CHANGED_PROPERTIES));
+		Assert.assertEquals("2", stats.get("AdapterMetrics#Cycles"));
+		Assert.assertEquals("1970-01-01T00:00:01Z", stats.get("LastChanged#Name"));
+		Assert.assertEquals("1970-01-01T00:00:02Z", stats.get("LastChanged#Count"));
+		Assert.assertEquals(1000, delta.getChangeTime("Name"));
+		Assert.assertEquals(2000, delta.getChangeTime("Count"));
+	}
+
+	@Test
+	void testMissingPropertiesAreRemoved() {
+		DeltaStatistics delta = new DeltaStatistics();
+		Map<String, String> cycle = new HashMap<>();
+		cycle.put("Name", "Rally");
+		cycle.put("Count", "1");
+		delta.apply(cycle, 1000);
+
+		cycle.remove("Count");
+		Map<String, String> stats = delta.apply(cycle, 2000);
+		Assert.assertFalse(stats.containsKey("Count"));
+		Assert.assertFalse(stats.containsKey("LastChanged#Count"));
+		Assert.assertEquals(1, delta.getChangedProperties());
+		Assert.assertEquals(0, delta.getChangeTime("Count"));
+
+		delta.apply(cycle, 3000);
+		Assert.assertEquals("0", stats.get(LogitechConstant.CHANGED_PROPERTIES));
+		delta.clear();
+		Assert.assertTrue(stats.isEmpty());
+	}
+}
@@ -0,0 +1,63 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GroupFilterTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class GroupFilterTest {
+
+	@Test
+	void testEverythingIsIncludedByDefault() {
+		GroupFilter filter = new GroupFilter(null, " ");
+		for (LogitechCommand command : LogitechCommand.values()) {
+			Assert.assertTrue(filter.isEnabled(command));
+		}
+		for (PeripheralType type : PeripheralType.values()) {
+			Assert.assertTrue(filter.isEnabled(type));
+		}
+	}
+
+	@Test
+	void testExcludedGroups() {
+		GroupFilter filter = new GroupFilter("", "usbdevice, Remote,IP_CONTROLLER, DeviceInsights");
+		Assert.assertFalse(filter.isEnabled(PeripheralType.USB_DEVICES));
+		Assert.assertFalse(filter.isEnabled(PeripheralType.REMOTE));
+		Assert.assertFalse(filter.isEnabled(PeripheralType.IP_CONTROLLER));
+		Assert.assertTrue(filter.isEnabled(PeripheralType.DISPLAY));
+		Assert.assertFalse(filter.isEnabled(LogitechCommand.INSIGHTS_DEVICE));
+		Assert.assertTrue(filter.isEnabled(LogitechCommand.PERIPHERALS_INFO));
+		Assert.assertTrue(filter.getUnknownGroups().isEmpty());
+	}
+
+	@Test
+	void testIncludingAPeripheralTypeIncludesItsCommand() {
+		GroupFilter filter = new GroupFilter("DeviceInfo, Display", "Peripherals2");
+		Assert.assertTrue(filter.isEnabled(LogitechCommand.DEVICE_INFO));
+		Assert.assertTrue(filter.isEnabled(LogitechCommand.PERIPHERALS_INFO));
+		Assert.assertFalse(filter.isEnabled(LogitechCommand.INSIGHTS_ROOM));
+		Assert.assertTrue(filter.isEnabled(PeripheralType.DISPLAY));
+		Assert.assertFalse(filter.isEnabled(PeripheralType.SIGHT));
+		Assert.assertEquals(Collections.singleton("Peripherals2"), filter.getUnknownGroups());
+	}
+
+	@Test
+	void testExcludingEveryPeripheralTypeExcludesTheCommand() {
+		GroupFilter filter = new GroupFilter("Peripherals", "Display, IPController, Remote, Sight, USBController, USBDevice");
+		Assert.assertFalse(filter.isEnabled(LogitechCommand.PERIPHERALS_INFO));
+		Assert.assertFalse(filter.isEnabled(LogitechCommand.DEVICE_INFO));
+
+		filter = new GroupFilter("Display", "Peripherals");
+		Assert.assertFalse(filter.isEnabled(LogitechCommand.PERIPHERALS_INFO));
+		Assert.assertFalse(filter.isEnabled(PeripheralType.DISPLAY));
+	}
+}
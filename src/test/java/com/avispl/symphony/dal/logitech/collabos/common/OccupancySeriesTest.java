@@ -0,0 +1,89 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OccupancySeriesTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class OccupancySeriesTest {
+	private static final long MINUTE = 60000;
+
+	@Test
+	void testRollingWindows() {
+		OccupancySeries series = new OccupancySeries(100, 0, 15 * MINUTE, 60 * MINUTE);
+		series.record(0, 4);
+		series.record(20 * MINUTE, 0);
+		series.record(25 * MINUTE, 2);
+		series.record(30 * MINUTE, 1);
+
+		double[] summary = new double[4];
+		Assert.assertTrue(series.summarize(0, 30 * MINUTE, summary));
+		Assert.assertEquals(0, summary[OccupancySeries.MIN], 0.001);
+		Assert.assertEquals(2, summary[OccupancySeries.MAX], 0.001);
+		Assert.assertEquals(1, summary[OccupancySeries.AVERAGE], 0.001);
+		Assert.assertEquals(66.667, summary[OccupancySeries.OCCUPIED], 0.001);
+
+		Assert.assertTrue(series.summarize(1, 30 * MINUTE, summary));
+		Assert.assertEquals(4, summary[OccupancySeries.MAX], 0.001);
+		Assert.assertEquals(1.75, summary[OccupancySeries.AVERAGE], 0.001);
+		Assert.assertEquals(75.0, summary[OccupancySeries.OCCUPIED], 0.001);
+	}
+
+	@Test
+	void testSamplesExpire() {
+		OccupancySeries series = new OccupancySeries(100, 0, 10 * MINUTE);
+		series.record(0, 3);
+		series.record(5 * MINUTE, 1);
+
+		double[] summary = new double[4];
+		Assert.assertTrue(series.summarize(0, 12 * MINUTE, summary));
+		Assert.assertEquals(1, summary[OccupancySeries.MAX], 0.001);
+		Assert.assertFalse(series.summarize(0, 15 * MINUTE, summary));
+	}
+
+	@Test
+	void testOverwrittenSamplesLeaveTheWindows() {
+		OccupancySeries series = new OccupancySeries(3, 0, 60 * MINUTE);
+		series.record(0, 9);
+		series.record(MINUTE, 1);
+		series.record(2 * MINUTE, 2);
+		series.record(3 * MINUTE, 3);
+
+		double[] summary = new double[4];
+		Assert.assertTrue(series.summarize(0, 3 * MINUTE, summary));
+		Assert.assertEquals(3, series.getCount());
+		Assert.assertEquals(1, summary[OccupancySeries.MIN], 0.001);
+		Assert.assertEquals(3, summary[OccupancySeries.MAX], 0.001);
+		Assert.assertEquals(2, summary[OccupancySeries.AVERAGE], 0.001);
+	}
+
+	@Test
+	void testCloseSamplesAreSkipped() {
+		OccupancySeries series = new OccupancySeries(10, MINUTE, 60 * MINUTE);
+		Assert.assertTrue(series.record(0, 1));
+		Assert.assertFalse(series.record(MINUTE / 3, 5));
+		Assert.assertTrue(series.record(MINUTE, 3));
+		Assert.assertFalse(series.record(MINUTE + MINUTE / 3, 4));
+		Assert.assertEquals(2, series.getCount());
+		series.clear();
+		Assert.assertEquals(0, series.getCount());
+		Assert.assertFalse(series.summarize(0, MINUTE, new double[4]));
+	}
+
+	@Test
+	void testJitteredSamplesAreKept() {
+		OccupancySeries series = new OccupancySeries(10, MINUTE, 60 * MINUTE);
+		long[] times = { 0, MINUTE - 2000, 2 * MINUTE + 3000, 3 * MINUTE - 4000, 4 * MINUTE, 5 * MINUTE - 1000 };
+		for (long time : times) {
+			Assert.assertTrue(series.record(time, 1));
+		}
+		Assert.assertEquals(times.length, series.getCount());
+	}
+}
@@ -0,0 +1,80 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PeripheralIndexTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class PeripheralIndexTest {
+	private static final PeripheralType TYPE = PeripheralType.USB_DEVICES;
+
+	@Test
+	void testSlotsAreKeptWhenAnItemIsRemoved() {
+		PeripheralIndex index = new PeripheralIndex();
+		Assert.assertEquals(3, index.update(TYPE, Arrays.asList(device("33", "Rally"), device("34", "Tap"), device("35", "Scribe"))));
+		Map<String, String> properties = index.getProperties();
+		Assert.assertEquals("Tap", properties.get("USBDevice2#Name"));
+
+		Assert.assertEquals(1, index.update(TYPE, Arrays.asList(device("33", "Rally"), device("35", "Scribe"))));
+		Assert.assertNull(properties.get("USBDevice2#Name"));
+		Assert.assertNull(properties.get("USBDevice2#ID"));
+		Assert.assertEquals("Scribe", properties.get("USBDevice3#Name"));
+		Assert.assertEquals(1, index.getRemoved());
+
+		Assert.assertEquals(1, index.update(TYPE, Arrays.asList(device("36", "Sight"), device("33", "Rally"), device("35", "Scribe"))));
+		Assert.assertEquals(2, index.getSlot(TYPE, "36"));
+		Assert.assertEquals("Sight", properties.get("USBDevice2#Name"));
+		Assert.assertEquals(4, index.getAdded());
+	}
+
+	@Test
+	void testOnlyChangedItemsAreRewritten() {
+		PeripheralIndex index = new PeripheralIndex();
+		index.update(TYPE, Arrays.asList(device("33", "Rally"), device("34", "Tap")));
+		Map<String, String> properties = index.getProperties();
+		String name = properties.get("USBDevice1#Name");
+
+		Assert.assertEquals(0, index.update(TYPE, Arrays.asList(device("33", new String("Rally")), device("34", "Tap"))));
+		Assert.assertSame(name, properties.get("USBDevice1#Name"));
+
+		Assert.assertEquals(1, index.update(TYPE, Arrays.asList(device("33", "Rally"), device("34", "Tap 2"))));
+		Assert.assertEquals("Tap 2", properties.get("USBDevice2#Name"));
+		Assert.assertEquals(1, index.getUpdated());
+	}
+
+	@Test
+	void testItemsWithoutIdentityAreKeyedByPosition() {
+		PeripheralIndex index = new PeripheralIndex();
+		List<String[]> items = new ArrayList<>();
+		items.add(device(null, "Rally"));
+		items.add(device("", "Tap"));
+		index.update(TYPE, items);
+		Assert.assertEquals(1, index.getSlot(TYPE, "#0"));
+		Assert.assertEquals(2, index.getSlot(TYPE, "#1"));
+
+		index.update(TYPE, Collections.emptyList());
+		Assert.assertTrue(index.getProperties().isEmpty());
+		index.clear();
+		Assert.assertEquals(0, index.getRemoved());
+	}
+
+	private static String[] device(String id, String name) {
+		String[] values = new String[TYPE.getMetricCount()];
+		values[TYPE.getMetricIndex("id")] = id;
+		values[TYPE.getMetricIndex("name")] = name;
+		return values;
+	}
+}
@@ -0,0 +1,36 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PeripheralTypeTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class PeripheralTypeTest {
+
+	@Test
+	void testPropertyKeys() {
+		PeripheralType type = PeripheralType.USB_DEVICES;
+		int name = type.getMetricIndex("name");
+
+		Assert.assertEquals("USBDevice#Name", type.getPropertyKey(0, name));
+		Assert.assertEquals("USBDevice12#Name", type.getPropertyKey(12, name));
+		Assert.assertEquals("USBDevice3#" + type.getPropertyName(0), type.getPropertyKey(3, 0));
+	}
+
+	@Test
+	void testPropertyKeysAreReused() {
+		PeripheralType type = PeripheralType.DISPLAY;
+		String key = type.getPropertyKey(2, 0);
+
+		Assert.assertSame(key, type.getPropertyKey(2, 0));
+		type.getPropertyKey(40, 0);
+		Assert.assertSame(key, type.getPropertyKey(2, 0));
+	}
+}
@@ -0,0 +1,61 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProbeSamplesTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class ProbeSamplesTest {
+
+	@Test
+	void testSummary() {
+		ProbeSamples samples = new ProbeSamples(10);
+		samples.record(10);
+		samples.recordLoss();
+		samples.record(30);
+		samples.record(20);
+
+		long[] summary = new long[4];
+		Assert.assertTrue(samples.summarize(summary));
+		Assert.assertEquals(10, summary[ProbeSamples.MIN]);
+		Assert.assertEquals(30, summary[ProbeSamples.MAX]);
+		Assert.assertEquals(20, summary[ProbeSamples.AVERAGE]);
+		Assert.assertEquals(15, summary[ProbeSamples.JITTER]);
+		Assert.assertEquals(25.0, samples.getLossPercentage(), 0.001);
+	}
+
+	@Test
+	void testOldestProbesAreReplaced() {
+		ProbeSamples samples = new ProbeSamples(3);
+		samples.recordLoss();
+		samples.recordLoss();
+		samples.record(5);
+		samples.record(9);
+		samples.record(7);
+
+		long[] summary = new long[4];
+		Assert.assertTrue(samples.summarize(summary));
+		Assert.assertEquals(3, samples.getCount());
+		Assert.assertEquals(0.0, samples.getLossPercentage(), 0.001);
+		Assert.assertEquals(3, summary[ProbeSamples.JITTER]);
+	}
+
+	@Test
+	void testEveryProbeLost() {
+		ProbeSamples samples = new ProbeSamples(4);
+		samples.recordLoss();
+		samples.recordLoss();
+
+		Assert.assertFalse(samples.summarize(new long[4]));
+		Assert.assertEquals(100.0, samples.getLossPercentage(), 0.001);
+		samples.clear();
+		Assert.assertEquals(0, samples.getCount());
+	}
+}
@@ -0,0 +1,47 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RollingWindowTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class RollingWindowTest {
+
+	@Test
+	void testSummary() {
+		RollingWindow window = new RollingWindow(100);
+		long[] summary = new long[3];
+		Assert.assertFalse(window.summarize(summary));
+
+		for (int i = 100; i >= 1; i--) {
+			window.record(i);
+		}
+		Assert.assertTrue(window.summarize(summary));
+		Assert.assertEquals(50, summary[RollingWindow.P50]);
+		Assert.assertEquals(95, summary[RollingWindow.P95]);
+		Assert.assertEquals(100, summary[RollingWindow.MAX]);
+		Assert.assertEquals(1, window.getLast());
+	}
+
+	@Test
+	void testOldestSamplesRollOut() {
+		RollingWindow window = new RollingWindow(3);
+		long[] summary = new long[3];
+		window.record(1000);
+		window.record(1);
+		window.record(2);
+		window.record(3);
+
+		window.summarize(summary);
+		Assert.assertEquals(3, window.getCount());
+		Assert.assertEquals(2, summary[RollingWindow.P50]);
+		Assert.assertEquals(3, summary[RollingWindow.MAX]);
+	}
+}
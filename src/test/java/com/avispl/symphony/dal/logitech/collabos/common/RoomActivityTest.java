@@ -0,0 +1,34 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RoomActivityTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class RoomActivityTest {
+
+	@Test
+	void testActivity() {
+		Assert.assertEquals(RoomActivity.ACTIVE, RoomActivity.of("2", "ALWAYS_ON", "IDLE"));
+		Assert.assertEquals(RoomActivity.ACTIVE, RoomActivity.of("0", "ALWAYS_ON", "IN_CALL"));
+		Assert.assertEquals(RoomActivity.ACTIVE, RoomActivity.of(null, null, "IN_CALL"));
+		Assert.assertEquals(RoomActivity.VACANT, RoomActivity.of("0", "ALWAYS_ON", "IDLE"));
+		Assert.assertEquals(RoomActivity.VACANT, RoomActivity.of("0", "ALWAYS_ON", null));
+	}
+
+	@Test
+	void testUnknownActivity() {
+		Assert.assertEquals(RoomActivity.UNKNOWN, RoomActivity.of("0", "OFF", "IDLE"));
+		Assert.assertEquals(RoomActivity.UNKNOWN, RoomActivity.of("0", LogitechConstant.NONE, "IDLE"));
+		Assert.assertEquals(RoomActivity.UNKNOWN, RoomActivity.of(LogitechConstant.NONE, "ALWAYS_ON", "IDLE"));
+		Assert.assertEquals(RoomActivity.UNKNOWN, RoomActivity.of("many", "ALWAYS_ON", null));
+		Assert.assertEquals(RoomActivity.UNKNOWN, RoomActivity.of(null, null, null));
+	}
+}
@@ -0,0 +1,96 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.logitech.collabos.common.SnapshotStore.Snapshot;
+
+/**
+ * SnapshotStoreTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class SnapshotStoreTest {
+	private Path directory;
+
+	@BeforeEach()
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("collabos-snapshot");
+	}
+
+	@AfterEach()
+	public void destroy() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	@Test
+	void testRoundTrip() throws Exception {
+		SnapshotStore store = new SnapshotStore(directory.resolve("device.snapshot"));
+		Snapshot snapshot = new Snapshot();
+		snapshot.setSavedAt(1000);
+		snapshot.setToken("token");
+		snapshot.setTokenTime(500);
+		snapshot.setTokenLifetime(3600000);
+		Map<String, String> data = new HashMap<>();
+		data.put("SerialNumber", "2346FD2KD0T2");
+		data.put("DeviceName", "Rally Bar \u2013 Salle 1");
+		snapshot.getData().put(LogitechCommand.DEVICE_INFO, data);
+		snapshot.getStatistics().put("SerialNumber", "2346FD2KD0T2");
+		store.write(snapshot);
+
+		Snapshot read = store.read();
+		Assert.assertEquals(1000, read.getSavedAt());
+		Assert.assertEquals("token", read.getToken());
+		Assert.assertEquals(500, read.getTokenTime());
+		Assert.assertEquals(3600000, read.getTokenLifetime());
+		Assert.assertEquals(data, read.getData().get(LogitechCommand.DEVICE_INFO));
+		Assert.assertNull(read.getData().get(LogitechCommand.PERIPHERALS_INFO));
+		Assert.assertEquals("2346FD2KD0T2", read.getStatistics().get("SerialNumber"));
+		Assert.assertFalse(Files.exists(directory.resolve("device.snapshot.tmp")));
+	}
+
+	@Test
+	void testMissingSnapshot() throws Exception {
+		SnapshotStore store = new SnapshotStore(directory.resolve("missing.snapshot"));
+		Assert.assertNull(store.read());
+	}
+
+	@Test
+	void testCorruptedSnapshot() throws Exception {
+		Path file = directory.resolve("device.snapshot");
+		SnapshotStore store = new SnapshotStore(file);
+		Snapshot snapshot = new Snapshot();
+		snapshot.getStatistics().put("SerialNumber", "2346FD2KD0T2");
+		store.write(snapshot);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+		try {
+			store.read();
+			Assert.fail("A truncated snapshot should not be read");
+		} catch (IOException e) {
+			Assert.assertTrue(e.getMessage().startsWith("Corrupted snapshot"));
+		}
+		store.delete();
+		Assert.assertNull(store.read());
+	}
+}
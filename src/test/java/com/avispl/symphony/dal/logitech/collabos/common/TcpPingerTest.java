@@ -0,0 +1,83 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.UnknownHostException;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TcpPingerTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class TcpPingerTest {
+	private ServerSocket serverSocket;
+	private final TcpPinger pinger = new TcpPinger();
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		serverSocket.close();
+	}
+
+	@Test
+	void testSequentialAttempts() throws Exception {
+		long[] attempts = pinger.ping("127.0.0.1", serverSocket.getLocalPort(), 3, 1000, false);
+		Assert.assertEquals(3, attempts.length);
+		for (long attempt : attempts) {
+			Assert.assertTrue(attempt >= 0 && attempt < 1000000000L);
+		}
+	}
+
+	@Test
+	void testConcurrentAttempts() throws Exception {
+		long[] attempts = pinger.ping("127.0.0.1", serverSocket.getLocalPort(), 5, 1000, true);
+		for (long attempt : attempts) {
+			Assert.assertTrue(attempt >= 0);
+		}
+	}
+
+	@Test
+	void testRefusedConnection() throws Exception {
+		int port = serverSocket.getLocalPort();
+		serverSocket.close();
+		try {
+			pinger.ping("127.0.0.1", port, 2, 1000, false);
+			Assert.fail("A closed port should refuse the connection");
+		} catch (ConnectException e) {
+			Assert.assertNotNull(e.getMessage());
+		}
+	}
+
+	@Test
+	void testResolvedAddressIsCached() throws Exception {
+		InetAddress address = pinger.resolve("127.0.0.1");
+		Assert.assertSame(address, pinger.resolve("127.0.0.1"));
+
+		pinger.setAddressTtl(0);
+		Assert.assertNotSame(address, pinger.resolve("127.0.0.1"));
+	}
+
+	@Test
+	void testUnknownHost() throws Exception {
+		try {
+			pinger.resolve("unknown.invalid");
+			Assert.fail("An invalid host should not resolve");
+		} catch (UnknownHostException e) {
+			Assert.assertNotNull(e.getMessage());
+		}
+	}
+}
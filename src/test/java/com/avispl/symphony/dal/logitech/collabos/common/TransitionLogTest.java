@@ -0,0 +1,71 @@
+package com.avispl.symphony.dal.logitech.collabos.common;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TransitionLogTest
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.2.0
+ */
+@Tag("Mock")
+public class TransitionLogTest {
+
+	@Test
+	void testChangesAreLogged() {
+		TransitionLog log = new TransitionLog(16, 8);
+		Assert.assertFalse(log.record(1, "UNMUTED", 1000));
+		Assert.assertFalse(log.record(0, "IDLE", 1000));
+		Assert.assertFalse(log.record(1, "UNMUTED", 2000));
+		Assert.assertTrue(log.record(1, "MUTED", 3000));
+		Assert.assertTrue(log.record(0, "IN_CALL", 3000));
+		Assert.assertTrue(log.record(1, "UNMUTED", 4000));
+		Assert.assertTrue(log.record(1, "MUTED", 5000));
+
+		Assert.assertEquals(4, log.getSize());
+		Assert.assertEquals(2, log.count(1, "MUTED", 0));
+		Assert.assertEquals(1, log.count(1, "MUTED", 4000));
+		Assert.assertEquals(3, log.count(1, null, 0));
+		Assert.assertEquals(0, log.count(1, "UNKNOWN", 0));
+
+		long[] recent = new long[2];
+		Assert.assertEquals(2, log.copyRecent(recent));
+		Assert.assertEquals(5000, TransitionLog.getTime(recent[0]));
+		Assert.assertEquals(1, TransitionLog.getProperty(recent[0]));
+		Assert.assertEquals("MUTED", log.getState(recent[0]));
+		Assert.assertEquals("UNMUTED", log.getState(recent[1]));
+	}
+
+	@Test
+	void testOldestChangesAreReplaced() {
+		TransitionLog log = new TransitionLog(3, 8);
+		log.record(2, "0", 0);
+		for (int i = 1; i <= 5; i++) {
+			log.record(2, String.valueOf(i % 2), i * 1000L);
+		}
+
+		Assert.assertEquals(3, log.getSize());
+		Assert.assertEquals(3, log.count(2, null, 0));
+		long[] recent = new long[8];
+		Assert.assertEquals(3, log.copyRecent(recent));
+		Assert.assertEquals(3000, TransitionLog.getTime(recent[2]));
+	}
+
+	@Test
+	void testFullDictionary() {
+		TransitionLog log = new TransitionLog(8, 3);
+		log.record(0, "A", 0);
+		log.record(0, "B", 1000);
+		log.record(0, "C", 2000);
+
+		long[] recent = new long[1];
+		log.copyRecent(recent);
+		Assert.assertEquals(TransitionLog.OTHER_STATE, log.getState(recent[0]));
+		log.clear();
+		Assert.assertEquals(0, log.getSize());
+		Assert.assertFalse(log.record(0, "C", 3000));
+	}
+}